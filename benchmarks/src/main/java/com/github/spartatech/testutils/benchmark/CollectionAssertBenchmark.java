@@ -0,0 +1,121 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.spartatech.testutils.colletion.CollectionAssert;
+
+/** 
+ * 
+ * Cost of asserting lists with {@link CollectionAssert}, for lists that match in a different order 
+ * and lists where only the last element differs.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *  
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionAssertBenchmark {
+
+    private static final Comparator<Item> COMPARATOR = Comparator.comparingInt((Item item) -> item.id)
+                                                                 .thenComparing(item -> item.name)
+                                                                 .thenComparingLong(item -> item.amount);
+
+    /**
+     * Shape of the lists compared.
+     */
+    public enum Shape {
+        MATCH, //Same elements in a different order
+        MISMATCH, //Same elements in a different order, but the last one
+    }
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"MATCH", "MISMATCH"})
+    private Shape shape;
+
+    private List<Item> listOne;
+    private List<Item> listTwo;
+
+    @Setup
+    public void setup() {
+        listOne = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            listOne.add(new Item(i, "item " + i, i * 31L));
+        }
+        listTwo = new ArrayList<>(listOne);
+        Collections.shuffle(listTwo, new Random(42));
+        if (shape == Shape.MISMATCH) {
+            listTwo.set(size - 1, new Item(-1, "different", 0));
+        }
+    }
+
+    @Benchmark
+    public Object assertList() {
+        return run(() -> CollectionAssert.assertList(listOne, listTwo, COMPARATOR));
+    }
+
+    @Benchmark
+    public Object assertListByKey() {
+        return run(() -> CollectionAssert.assertList(listOne, listTwo, item -> item.id, COMPARATOR));
+    }
+
+    @Benchmark
+    public Object assertListByReflection() {
+        return run(() -> CollectionAssert.assertListByReflection(listOne, listTwo));
+    }
+
+    /**
+     * Runs an assertion, returning the failure so the mismatch shape is measured the same way.
+     * 
+     * @param assertion assertion to run
+     * @return failure thrown, null when the lists match
+     */
+    private static Object run(Runnable assertion) {
+        try {
+            assertion.run();
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    /**
+     * Element of the lists compared.
+     */
+    public static class Item {
+        private final int id;
+        private final String name;
+        private final long amount;
+
+        Item(int id, String name, long amount) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+        }
+    }
+}
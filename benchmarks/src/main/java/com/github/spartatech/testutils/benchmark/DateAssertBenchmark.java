@@ -0,0 +1,59 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.spartatech.testutils.temporal.DateAssertUtils;
+
+/** 
+ * 
+ * Cost of a single call of the {@link DateAssertUtils} asserts, for dates that match.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *  
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateAssertBenchmark {
+
+    private Date expected;
+    private Date actual;
+
+    @Setup
+    public void setup() {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.set(2026, Calendar.OCTOBER, 16, 10, 30, 0);
+        expected = calendar.getTime();
+        calendar.set(Calendar.HOUR_OF_DAY, 18);
+        actual = calendar.getTime();
+    }
+
+    @Benchmark
+    public void assertDate() {
+        DateAssertUtils.assertDate(expected, actual, Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH);
+    }
+
+    @Benchmark
+    public void assertDateByFormat() {
+        DateAssertUtils.assertDateByFormat(expected, actual, "yyyy-MM-dd");
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.spartatech.testutils.logback.UnitTestAsserterLogback;
+
+import ch.qos.logback.classic.Level;
+
+/** 
+ * 
+ * Cost of asserting large captures with {@link UnitTestAsserterLogback}, in order and ignoring extra messages.
+ * Asserting does not consume the expectations, so the same capture is asserted on every invocation.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *  
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogAssertBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("benchmark.assert");
+
+    @Param({"10000", "100000"})
+    private int events;
+
+    private UnitTestAsserterLogback asserter;
+
+    @Setup
+    public void setup() {
+        asserter = new UnitTestAsserterLogback(LOGGER.getName());
+        for (int i = 0; i < events; i++) {
+            asserter.addExpectation(Level.INFO, "order {} processed by {}", i, "worker " + (i % 16));
+        }
+        for (int i = 0; i < events; i++) {
+            LOGGER.info("order {} processed by {}", i, "worker " + (i % 16));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        asserter.close();
+    }
+
+    @Benchmark
+    public void assertStrict() {
+        asserter.assertLogExpectations(false);
+    }
+
+    @Benchmark
+    public void assertIgnoringExtraMessages() {
+        asserter.assertLogExpectations(true);
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.spartatech.testutils.logback.UnitTestAsserterLogback;
+import com.github.spartatech.testutils.logback.constant.CaptureMode;
+import com.github.spartatech.testutils.logback.constant.ExpectValue;
+
+import ch.qos.logback.classic.Level;
+
+/** 
+ * 
+ * Throughput of logging to a logger spied by {@link UnitTestAsserterLogback}, from 1 to 64 threads.
+ * Only capture modes with bounded memory are measured, the others would grow until the heap is exhausted.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *  
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogbackAppenderBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("benchmark.appender");
+
+    @Param({"LAST_N", "STREAMING"})
+    private CaptureMode captureMode;
+
+    private UnitTestAsserterLogback asserter;
+
+    @Setup
+    public void setup() {
+        asserter = new UnitTestAsserterLogback(LOGGER.getName()).withCaptureMode(captureMode);
+        asserter.addExpectation(Level.INFO, "order {} processed", ExpectValue.ANY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        asserter.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void log1Thread() {
+        LOGGER.info("order {} processed", 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void log8Threads() {
+        LOGGER.info("order {} processed", 1);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void log64Threads() {
+        LOGGER.info("order {} processed", 1);
+    }
+}
@@ -1,19 +1,23 @@
 package com.github.spartatech.testutils.colletion;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
 import org.junit.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.spartatech.testutils.colletion.ListMatcher.MatchResult;
+import com.github.spartatech.testutils.colletion.ReflectionPlan.FieldSelector;
+
 /** 
  * 
  * Asserts for Collections.
@@ -23,12 +27,24 @@ import org.slf4j.LoggerFactory;
  * History: 
  *    Jan 14, 2017 - ddiehl
  *    Apr 06, 2018 - ddiehl - Adjusting problem with asseertListByReflection with null field.
+ *    Oct 16, 2026 - Sparta Team - Hash indexed matching for assertList.
+ *    Oct 16, 2026 - Sparta Team - Cached field plans for assertListByReflection.
+ *    Oct 16, 2026 - Sparta Team - Structural field comparison instead of ReflectionToStringBuilder.
+ *    Oct 16, 2026 - Sparta Team - Parallel mode.
+ *    Oct 16, 2026 - Sparta Team - Streaming assert with spill to disk.
+ *    Oct 16, 2026 - Sparta Team - Sorted merge comparison.
+ *    Oct 16, 2026 - Sparta Team - Bounded, lazily rendered failure message.
  *  
  */
 public abstract class CollectionAssert {
     
     public static final Logger LOGGER = LoggerFactory.getLogger(CollectionAssert.class);
     
+    /**
+     * Default number of unmatched elements kept in memory by {@code assertStream}.
+     */
+    public static final int DEFAULT_SPILL_THRESHOLD = 1_000_000;
+    
     /**
      * Compares two lists using the comparator
      * 
@@ -38,33 +54,59 @@ public abstract class CollectionAssert {
      * @param elementComparator comparator to compare records
      */
     public static <A> void assertList(final Collection<A> listOne, final Collection<A> listTwo, Comparator<A> elementComparator) {
-        final List<A> listOneCopy = new ArrayList<>(listOne);
-        final List<A> listTwoCopy = new ArrayList<>(listTwo);
-        for (Iterator<A> iteratorList1 = listOneCopy.iterator(); iteratorList1.hasNext();) {
-            A itemListOne = iteratorList1.next();
-            
-            if (listTwoCopy.isEmpty()) {
-                Assert.fail("List two is missing items");
-            }
-            
-            for (Iterator<A> iteratorList2 = listTwoCopy.iterator(); iteratorList2.hasNext();) {
-                A itemListTwo = iteratorList2.next();
-                if (elementComparator.compare(itemListOne, itemListTwo) == 0) {
-                    iteratorList1.remove();
-                    iteratorList2.remove();
-                    break;
-                }
-            }
-        }
-        
-        if (!listTwoCopy.isEmpty() || !listOneCopy.isEmpty()) {
-            final StringBuilder msg =  new StringBuilder("Lists are not similar.").append(System.getProperty("line.separator"));
-            listOneCopy.forEach(item -> msg.append("List one: ").append("Remaining: " + ReflectionToStringBuilder.toString(item)).append(System.getProperty("line.separator")));
-            listTwoCopy.forEach(item -> msg.append("List two: ").append("Remaining: " + ReflectionToStringBuilder.toString(item)).append(System.getProperty("line.separator")));
-            Assert.fail(msg.toString());
+        assertList(listOne, listTwo, null, elementComparator);
+    }
+    
+    /**
+     * Compares two lists using the comparator, indexing list two by a key so that each element is only compared 
+     * against the elements sharing its key. 
+     * The key extractor must be consistent with the comparator (elements that compare as equal must have equal keys). 
+     * Elements with a null key, or whose key can't be extracted, are matched using only the comparator.
+     * 
+     * @param <A> Type of list element
+     * @param listOne left side list
+     * @param listTwo right side list
+     * @param keyExtractor function deriving the key of an element, null to match using only the comparator
+     * @param elementComparator comparator to compare records
+     */
+    public static <A> void assertList(final Collection<A> listOne, final Collection<A> listTwo, Function<? super A, ?> keyExtractor, Comparator<A> elementComparator) {
+        assertMatch(new ListMatcher<A>(keyExtractor, elementComparator).match(listOne, listTwo));
+    }
+    
+    /**
+     * Compares two lists using the comparator. 
+     * In {@link Ordering#SORT} and {@link Ordering#SORTED} modes the comparator must define a total order, 
+     * both lists are walked once and the failure reports the index of the first difference and every surplus element.
+     * 
+     * @param <A> Type of list element
+     * @param listOne left side list
+     * @param listTwo right side list
+     * @param elementComparator comparator to compare records
+     * @param ordering how the lists are matched
+     * @throws IllegalArgumentException when the ordering is {@link Ordering#SORTED} and a list is not sorted
+     */
+    public static <A> void assertList(final Collection<A> listOne, final Collection<A> listTwo, Comparator<A> elementComparator, Ordering ordering) {
+        final ListMatcher<A> matcher = new ListMatcher<A>(null, elementComparator);
+        if (ordering == Ordering.UNORDERED) {
+            assertMatch(matcher.match(listOne, listTwo));
+        } else {
+            assertMatch(matcher.matchSorted(listOne, listTwo, ordering == Ordering.SORT));
         }
     }
     
+    /**
+     * Compares two lists sorting copies of both with the comparator and walking them once. 
+     * The comparator must define a total order.
+     * 
+     * @param <A> Type of list element
+     * @param listOne left side list
+     * @param listTwo right side list
+     * @param elementComparator comparator to sort and compare records
+     */
+    public static <A> void assertSortedList(final Collection<A> listOne, final Collection<A> listTwo, Comparator<A> elementComparator) {
+        assertList(listOne, listTwo, elementComparator, Ordering.SORT);
+    }
+    
     /**
      * Assert that two lists are same using reflection to compare elements. 
      * 
@@ -74,44 +116,179 @@ public abstract class CollectionAssert {
      * @param excludedFields fields to exclude from comparison
      */
     public static <A> void assertListByReflection(final Collection<A> listOne, final Collection<A> listTwo, String...excludedFields) {
-        List<String> excludedFieldsList = Arrays.asList(excludedFields);
-        assertList(listOne, listTwo, (item1, item2) -> {
-            Field[] fields = item1.getClass().getDeclaredFields();
-            for (Field field : fields) {
-                if (!excludedFieldsList.contains(field.getName())) {
-                    try {
-                        field.setAccessible(true);
-                        Object val1 = field.get(item1);
-                        Object val2 = field.get(item2);
-                        field.setAccessible(false);
-                        
-                        if (val1 == null && val2 != null) {
-                           LOGGER.debug("For Field {}: val1 was null, but val2 was not null");
-                           return 1;
-                        }
+        assertMatch(reflectionMatcher(listOne, listTwo, excludedFields).match(listOne, listTwo));
+    }
+    
+    /**
+     * Compares two streams using the comparator, consuming them incrementally so they don't need to fit in memory.
+     * Each element is matched against the unmatched elements of the other stream with an equal key, 
+     * up to {@value #DEFAULT_SPILL_THRESHOLD} unmatched elements are kept in memory, after that they are spilled to temporary files.
+     * Both streams are closed once consumed.
+     * 
+     * @param <A> Type of stream element
+     * @param streamOne left side stream
+     * @param streamTwo right side stream
+     * @param keyExtractor function deriving the key of an element, must be consistent with the comparator
+     * @param elementComparator comparator to compare records
+     */
+    public static <A> void assertStream(final Stream<A> streamOne, final Stream<A> streamTwo, Function<? super A, ?> keyExtractor, Comparator<A> elementComparator) {
+        assertStream(streamOne, streamTwo, keyExtractor, elementComparator, DEFAULT_SPILL_THRESHOLD);
+    }
+    
+    /**
+     * Compares two streams using the comparator, consuming them incrementally so they don't need to fit in memory.
+     * Each element is matched against the unmatched elements of the other stream with an equal key, 
+     * once there are more unmatched elements than the threshold they are spilled to temporary files (elements must be Serializable).
+     * Both streams are closed once consumed.
+     * 
+     * @param <A> Type of stream element
+     * @param streamOne left side stream
+     * @param streamTwo right side stream
+     * @param keyExtractor function deriving the key of an element, must be consistent with the comparator
+     * @param elementComparator comparator to compare records
+     * @param spillThreshold number of unmatched elements kept in memory before spilling to disk
+     */
+    public static <A> void assertStream(final Stream<A> streamOne, final Stream<A> streamTwo, Function<? super A, ?> keyExtractor, Comparator<A> elementComparator, int spillThreshold) {
+        try (Stream<A> one = streamOne; Stream<A> two = streamTwo) {
+            assertStream(one.iterator(), two.iterator(), keyExtractor, elementComparator, spillThreshold);
+        }
+    }
+    
+    /**
+     * Compares two iterators using the comparator, consuming them incrementally so they don't need to fit in memory.
+     * Each element is matched against the unmatched elements of the other iterator with an equal key, 
+     * once there are more unmatched elements than the threshold they are spilled to temporary files (elements must be Serializable).
+     * 
+     * @param <A> Type of element
+     * @param iteratorOne left side iterator
+     * @param iteratorTwo right side iterator
+     * @param keyExtractor function deriving the key of an element, must be consistent with the comparator
+     * @param elementComparator comparator to compare records
+     * @param spillThreshold number of unmatched elements kept in memory before spilling to disk
+     */
+    public static <A> void assertStream(final Iterator<A> iteratorOne, final Iterator<A> iteratorTwo, Function<? super A, ?> keyExtractor, Comparator<A> elementComparator, int spillThreshold) {
+        assertMatch(new StreamingListMatcher<A>(keyExtractor, elementComparator, spillThreshold).match(iteratorOne, iteratorTwo));
+    }
+    
+    /**
+     * Returns an asserter that matches large lists in parallel, using the common {@link ForkJoinPool}.
+     * 
+     * @return parallel asserter
+     */
+    public static ParallelCollectionAssert parallel() {
+        return new ParallelCollectionAssert(ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Returns an asserter that matches large lists in parallel.
+     * 
+     * @param pool pool where the matching will run
+     * @return parallel asserter
+     */
+    public static ParallelCollectionAssert parallel(ForkJoinPool pool) {
+        return new ParallelCollectionAssert(pool);
+    }
+    
+    /**
+     * Fails when the match result has elements not matched, throwing a {@link ListAssertionError}.
+     * 
+     * @param <A> Type of list element
+     * @param result result of the match
+     */
+    static <A> void assertMatch(final MatchResult<A> result) {
+        if (result.isListTwoExhausted()) {
+            Assert.fail("List two is missing items");
+        }
+        
+        if (!result.isMatch()) {
+            throw new ListAssertionError(result.getRemainingOne(), result.getRemainingTwo(), result.getFirstDifference(), result.isSortedIndex());
+        }
+    }
+    
+    /**
+     * Builds the matcher that compares elements field by field.
+     * 
+     * @param <A> Type of list element
+     * @param listOne List one to be compared
+     * @param listTwo list two compared
+     * @param excludedFields fields to exclude from comparison
+     * @return matcher for the lists
+     */
+    static <A> ListMatcher<A> reflectionMatcher(final Collection<A> listOne, final Collection<A> listTwo, String...excludedFields) {
+        final FieldSelector selector = new FieldSelector(excludedFields);
+        final Function<A, ?> keyExtractor = singleClass(listOne, listTwo) ? item -> reflectionKey(item, selector) : null;
+        return new ListMatcher<A>(keyExtractor, (item1, item2) -> {
+            final ReflectionPlan plan = ReflectionPlan.of(item1.getClass());
+            final BitSet included = selector.included(plan);
+            for (int i = included.nextSetBit(0); i >= 0; i = included.nextSetBit(i + 1)) {
+                try {
+                    Object val1 = plan.get(i, item1);
+                    Object val2 = plan.get(i, item2);
+                    
+                    if (val1 == null && val2 != null) {
+                       LOGGER.debug("For Field {}: val1 was null, but val2 was not null", plan.getName(i));
+                       return 1;
+                    }
 
-                        if (val1 != null && val2 == null) {
-                            LOGGER.debug("For Field {}: val1 was not null, but val2 was null");
-                            return 1;
-                         }
-                        
-                        if (val1== null && val2 == null) {
-                            LOGGER.debug("Both are null considering same");
-                        } else {
-                            String val1Str = ReflectionToStringBuilder.toString(val1, ToStringStyle.SHORT_PREFIX_STYLE);
-                            String val2Str = ReflectionToStringBuilder.toString(val2, ToStringStyle.SHORT_PREFIX_STYLE);
-                            if (!val1Str.equals(val2Str)) {
-                                LOGGER.debug("Field=[{}]. val1={}, val2={}", field.getName(), val1, val2);
-                                return 1;
-                            }
-                        }
-                    } catch (Exception e) {
-                        Assert.fail("Exception not expected comparing field "+ field.getName() + ": " + e.getMessage());
+                    if (val1 != null && val2 == null) {
+                        LOGGER.debug("For Field {}: val1 was not null, but val2 was null", plan.getName(i));
+                        return 1;
+                     }
+                    
+                    if (val1== null && val2 == null) {
+                        LOGGER.debug("Both are null considering same");
+                    } else if (!DeepEquals.deepEquals(val1, val2)) {
+                        LOGGER.debug("Field=[{}]. val1={}, val2={}", plan.getName(i), val1, val2);
+                        return 1;
                     }
+                } catch (Exception e) {
+                    Assert.fail("Exception not expected comparing field "+ plan.getName(i) + ": " + e.getMessage());
                 }
             }
             return 0;
         });
     }
     
+    /**
+     * Checks whether all the elements of both lists are instances of the same class. 
+     * The reflection key is only consistent with the field comparison when the same fields are read on both sides.
+     * 
+     * @param listOne list one
+     * @param listTwo list two
+     * @return true when all elements are non null and share the same class
+     */
+    private static boolean singleClass(final Collection<?> listOne, final Collection<?> listTwo) {
+        Class<?> clazz = null;
+        for (Collection<?> list : Arrays.asList(listOne, listTwo)) {
+            for (Object item : list) {
+                if (item == null || (clazz != null && clazz != item.getClass())) {
+                    return false;
+                }
+                clazz = item.getClass();
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Builds the matching key of an element, a hash of the same fields compared by {@code assertListByReflection}.
+     * 
+     * @param item element
+     * @param selector fields included in the comparison
+     * @return key for the element
+     */
+    private static Integer reflectionKey(Object item, FieldSelector selector) {
+        final ReflectionPlan plan = ReflectionPlan.of(item.getClass());
+        final BitSet included = selector.included(plan);
+        int key = 1;
+        for (int i = included.nextSetBit(0); i >= 0; i = included.nextSetBit(i + 1)) {
+            try {
+                key = 31 * key + DeepEquals.deepHashCode(plan.get(i, item));
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return key;
+    }
+    
 }
@@ -0,0 +1,342 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * Structural equality used by {@code CollectionAssert.assertListByReflection} to compare field values.
+ *
+ * Values are compared without rendering them to Strings:
+ * - Boxed primitives, Strings, enums and JDK classes that implement equals are compared by equals
+ * - Other JDK classes (i.e. AtomicLong, StringBuilder) are compared by toString, their fields are not accessible on JDK 9+
+ * - Arrays, Lists and other Collections are compared element by element, in order
+ * - Sets and Maps are compared by content
+ * - Any other object is compared field by field (non static, non transient, including superclasses) using cached plans
+ *
+ * Pairs of objects already being compared are tracked by identity, so cyclic graphs finish.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - JDK classes without equals compared by toString.
+ *
+ */
+final class DeepEquals {
+
+    /**
+     * Max depth used to compute hash codes, deeper levels only contribute with their class.
+     */
+    private static final int HASH_DEPTH = 4;
+
+    /**
+     * Max elements of a collection or array used to compute hash codes.
+     */
+    private static final int HASH_ELEMENTS = 16;
+
+    private enum Kind {
+        VALUE, TEXT, PRIMITIVE_ARRAY, ARRAY, LIST, SET, COLLECTION, MAP, OBJECT
+    }
+
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            if (type.isArray()) {
+                return type.getComponentType().isPrimitive() ? Kind.PRIMITIVE_ARRAY : Kind.ARRAY;
+            }
+            if (List.class.isAssignableFrom(type)) {
+                return Kind.LIST;
+            }
+            if (Set.class.isAssignableFrom(type)) {
+                return Kind.SET;
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return Kind.COLLECTION;
+            }
+            if (Map.class.isAssignableFrom(type)) {
+                return Kind.MAP;
+            }
+            if (type.isEnum() || type == Class.class) {
+                return Kind.VALUE;
+            }
+            if (isJdkClass(type)) {
+                return overridesEquals(type) ? Kind.VALUE : Kind.TEXT;
+            }
+            return Kind.OBJECT;
+        }
+    };
+
+    private DeepEquals() {
+    }
+
+    /**
+     * Compares two values structurally.
+     *
+     * @param val1 first value
+     * @param val2 second value
+     * @return true when both values are structurally equal
+     * @throws Exception when a field can't be read
+     */
+    static boolean deepEquals(Object val1, Object val2) throws Exception {
+        return deepEquals(val1, val2, null);
+    }
+
+    /**
+     * Hash code consistent with {@link #deepEquals(Object, Object)}.
+     *
+     * @param value value
+     * @return hash code
+     * @throws Exception when a field can't be read
+     */
+    static int deepHashCode(Object value) throws Exception {
+        return deepHashCode(value, HASH_DEPTH);
+    }
+
+    private static boolean deepEquals(Object val1, Object val2, Set<Visit> visiting) throws Exception {
+        if (val1 == val2) {
+            return true;
+        }
+        if (val1 == null || val2 == null || val1.getClass() != val2.getClass()) {
+            return false;
+        }
+
+        final Kind kind = KINDS.get(val1.getClass());
+        if (kind == Kind.VALUE) {
+            return val1.equals(val2);
+        }
+        if (kind == Kind.TEXT) {
+            return String.valueOf(val1).equals(String.valueOf(val2));
+        }
+        if (kind == Kind.PRIMITIVE_ARRAY) {
+            return primitiveArrayEquals(val1, val2);
+        }
+
+        if (visiting == null) {
+            visiting = new HashSet<>();
+        }
+        final Visit visit = new Visit(val1, val2);
+        if (!visiting.add(visit)) {
+            // already being compared up in the graph
+            return true;
+        }
+        try {
+            switch (kind) {
+                case ARRAY:
+                    return orderedEquals(Arrays.asList((Object[]) val1).iterator(), ((Object[]) val1).length,
+                                         Arrays.asList((Object[]) val2).iterator(), ((Object[]) val2).length, visiting);
+                case LIST:
+                case COLLECTION:
+                    return orderedEquals(((Collection<?>) val1).iterator(), ((Collection<?>) val1).size(),
+                                         ((Collection<?>) val2).iterator(), ((Collection<?>) val2).size(), visiting);
+                case SET:
+                    return setEquals((Set<?>) val1, (Set<?>) val2, visiting);
+                case MAP:
+                    return mapEquals((Map<?, ?>) val1, (Map<?, ?>) val2, visiting);
+                default:
+                    return objectEquals(val1, val2, visiting);
+            }
+        } finally {
+            visiting.remove(visit);
+        }
+    }
+
+    private static boolean orderedEquals(Iterator<?> it1, int size1, Iterator<?> it2, int size2,
+                                         Set<Visit> visiting) throws Exception {
+        if (size1 != size2) {
+            return false;
+        }
+        while (it1.hasNext() && it2.hasNext()) {
+            if (!deepEquals(it1.next(), it2.next(), visiting)) {
+                return false;
+            }
+        }
+        return !it1.hasNext() && !it2.hasNext();
+    }
+
+    private static boolean setEquals(Set<?> set1, Set<?> set2, Set<Visit> visiting) throws Exception {
+        return set1.size() == set2.size() && containsAll(set1, set2, visiting) && containsAll(set2, set1, visiting);
+    }
+
+    private static boolean containsAll(Set<?> set, Set<?> other, Set<Visit> visiting) throws Exception {
+        for (Object item : set) {
+            if (!other.contains(item) && !deepContains(other, item, visiting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean deepContains(Collection<?> collection, Object item, Set<Visit> visiting) throws Exception {
+        for (Object candidate : collection) {
+            if (deepEquals(item, candidate, visiting)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mapEquals(Map<?, ?> map1, Map<?, ?> map2, Set<Visit> visiting) throws Exception {
+        if (map1.size() != map2.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : map1.entrySet()) {
+            final Object value2 = map2.get(entry.getKey());
+            if (value2 == null && (entry.getValue() != null || !map2.containsKey(entry.getKey()))) {
+                return false;
+            }
+            if (!deepEquals(entry.getValue(), value2, visiting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean objectEquals(Object val1, Object val2, Set<Visit> visiting) throws Exception {
+        final ReflectionPlan plan = ReflectionPlan.hierarchyOf(val1.getClass());
+        for (int i = 0; i < plan.size(); i++) {
+            if (!deepEquals(plan.get(i, val1), plan.get(i, val2), visiting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean primitiveArrayEquals(Object val1, Object val2) {
+        if (val1 instanceof int[]) {
+            return Arrays.equals((int[]) val1, (int[]) val2);
+        } else if (val1 instanceof long[]) {
+            return Arrays.equals((long[]) val1, (long[]) val2);
+        } else if (val1 instanceof byte[]) {
+            return Arrays.equals((byte[]) val1, (byte[]) val2);
+        } else if (val1 instanceof char[]) {
+            return Arrays.equals((char[]) val1, (char[]) val2);
+        } else if (val1 instanceof double[]) {
+            return Arrays.equals((double[]) val1, (double[]) val2);
+        } else if (val1 instanceof float[]) {
+            return Arrays.equals((float[]) val1, (float[]) val2);
+        } else if (val1 instanceof short[]) {
+            return Arrays.equals((short[]) val1, (short[]) val2);
+        }
+        return Arrays.equals((boolean[]) val1, (boolean[]) val2);
+    }
+
+    private static int deepHashCode(Object value, int depth) throws Exception {
+        if (value == null) {
+            return 0;
+        }
+        final Kind kind = KINDS.get(value.getClass());
+        if (kind == Kind.VALUE) {
+            return value.hashCode();
+        }
+        if (kind == Kind.TEXT) {
+            return String.valueOf(value).hashCode();
+        }
+        if (depth == 0) {
+            return value.getClass().hashCode();
+        }
+
+        int hash = value.getClass().hashCode();
+        switch (kind) {
+            case PRIMITIVE_ARRAY:
+                return 31 * hash + primitiveArrayHashCode(value);
+            case ARRAY:
+                return 31 * hash + orderedHashCode(Arrays.asList((Object[]) value), depth);
+            case LIST:
+            case COLLECTION:
+                return 31 * hash + orderedHashCode((Collection<?>) value, depth);
+            case SET:
+                // iteration order is not part of the equality, only the size is used
+                return 31 * hash + ((Set<?>) value).size();
+            case MAP:
+                return 31 * hash + ((Map<?, ?>) value).size();
+            default:
+                final ReflectionPlan plan = ReflectionPlan.hierarchyOf(value.getClass());
+                for (int i = 0; i < plan.size(); i++) {
+                    hash = 31 * hash + deepHashCode(plan.get(i, value), depth - 1);
+                }
+                return hash;
+        }
+    }
+
+    private static int orderedHashCode(Collection<?> values, int depth) throws Exception {
+        int hash = values.size();
+        int count = 0;
+        for (Iterator<?> it = values.iterator(); it.hasNext() && count < HASH_ELEMENTS; count++) {
+            hash = 31 * hash + deepHashCode(it.next(), depth - 1);
+        }
+        return hash;
+    }
+
+    private static int primitiveArrayHashCode(Object value) {
+        if (value instanceof int[]) {
+            return Arrays.hashCode((int[]) value);
+        } else if (value instanceof long[]) {
+            return Arrays.hashCode((long[]) value);
+        } else if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        } else if (value instanceof char[]) {
+            return Arrays.hashCode((char[]) value);
+        } else if (value instanceof double[]) {
+            return Arrays.hashCode((double[]) value);
+        } else if (value instanceof float[]) {
+            return Arrays.hashCode((float[]) value);
+        } else if (value instanceof short[]) {
+            return Arrays.hashCode((short[]) value);
+        }
+        return Arrays.hashCode((boolean[]) value);
+    }
+
+    /**
+     * Pair of objects being compared, using identity for equality.
+     */
+    private static final class Visit {
+        private final Object val1;
+        private final Object val2;
+
+        Visit(Object val1, Object val2) {
+            this.val1 = val1;
+            this.val2 = val2;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(val1) + System.identityHashCode(val2);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Visit && ((Visit) obj).val1 == val1 && ((Visit) obj).val2 == val2;
+        }
+    }
+
+    /**
+     * Checks whether a class is a JDK class, its fields are not read, on JDK 9+ they are not accessible.
+     *
+     * @param type class
+     * @return true for classes in the java, javax and jdk packages
+     */
+    private static boolean isJdkClass(Class<?> type) {
+        final String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.");
+    }
+
+    /**
+     * Checks whether a class implements its own equals, like boxed primitives, String, Date or BigDecimal.
+     *
+     * @param type class
+     * @return true when equals can be used to compare instances
+     */
+    private static boolean overridesEquals(Class<?> type) {
+        try {
+            return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
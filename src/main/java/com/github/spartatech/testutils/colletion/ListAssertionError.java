@@ -0,0 +1,177 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+
+/**
+ *
+ * Failure thrown by {@link CollectionAssert} when the lists are not similar.
+ *
+ * The message is only rendered when {@link #getMessage()} is called, and only the first elements of each side are rendered,
+ * followed by the count of the elements not shown. The limit is set by the system property {@value #MAX_REPORTED_PROPERTY}
+ * (default {@value #DEFAULT_MAX_REPORTED}, 0 for no limit).
+ *
+ * When the system property {@value #REPORT_DIR_PROPERTY} is set (i.e. target/collection-assert),
+ * the full list of remaining elements is written to a file in that directory, and the message points to it.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Index of the first difference labeled when in sorted order.
+ *
+ */
+public class ListAssertionError extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * System property with the max number of remaining elements of each side rendered in the message.
+     */
+    public static final String MAX_REPORTED_PROPERTY = "sparta.collection.maxReported";
+
+    /**
+     * System property with the directory where the full report is written.
+     */
+    public static final String REPORT_DIR_PROPERTY = "sparta.collection.reportDir";
+
+    /**
+     * Default max number of remaining elements of each side rendered in the message.
+     */
+    public static final int DEFAULT_MAX_REPORTED = 100;
+
+    private static final String BR = System.getProperty("line.separator");
+
+    private final transient List<?> remainingOne;
+    private final transient List<?> remainingTwo;
+    private final int firstDifference;
+    private final boolean sortedIndex;
+    private final int maxReported;
+    private final transient Path reportFile;
+    private volatile String message;
+
+    /**
+     * Constructor with the elements not matched, reads the configuration from the system properties.
+     *
+     * @param remainingOne elements of list one not matched
+     * @param remainingTwo elements of list two not matched
+     * @param firstDifference index of list one where the lists diverge, -1 when unknown
+     * @param sortedIndex true when the index is in a sorted copy of list one, not in list one itself
+     */
+    ListAssertionError(List<?> remainingOne, List<?> remainingTwo, int firstDifference, boolean sortedIndex) {
+        this.remainingOne = remainingOne;
+        this.remainingTwo = remainingTwo;
+        this.firstDifference = firstDifference;
+        this.sortedIndex = sortedIndex;
+        this.maxReported = Integer.getInteger(MAX_REPORTED_PROPERTY, DEFAULT_MAX_REPORTED);
+        final String reportDir = System.getProperty(REPORT_DIR_PROPERTY);
+        this.reportFile = reportDir == null || reportDir.isEmpty() ? null : writeReport(Paths.get(reportDir));
+    }
+
+    /**
+     * @return number of elements of list one not matched
+     */
+    public int getRemainingOneCount() {
+        return remainingOne.size();
+    }
+
+    /**
+     * @return number of elements of list two not matched
+     */
+    public int getRemainingTwoCount() {
+        return remainingTwo.size();
+    }
+
+    /**
+     * @return file with the full report, null when not written
+     */
+    public Path getReportFile() {
+        return reportFile;
+    }
+
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            final StringBuilder msg = new StringBuilder();
+            try {
+                render(msg, maxReported);
+            } catch (IOException e) {
+                // StringBuilder does not throw
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            if (reportFile != null) {
+                msg.append("Full report: ").append(reportFile).append(BR);
+            }
+            rendered = msg.toString();
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * Renders the message, elements are not serializable so only the message is kept.
+     *
+     * @return error with the rendered message
+     */
+    private Object writeReplace() {
+        final AssertionError replacement = new AssertionError(getMessage());
+        replacement.setStackTrace(getStackTrace());
+        return replacement;
+    }
+
+    /**
+     * Writes the full report to a new file in the directory.
+     *
+     * @param directory report directory
+     * @return report file, null when it could not be written
+     */
+    private Path writeReport(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            final Path file = Files.createTempFile(directory, "collection-assert-", ".txt");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                render(writer, 0);
+            }
+            return file;
+        } catch (IOException e) {
+            CollectionAssert.LOGGER.warn("Could not write collection assert report to {}", directory, e);
+            return null;
+        }
+    }
+
+    /**
+     * Renders the remaining elements.
+     *
+     * @param out where the text is appended
+     * @param limit max elements of each side rendered, 0 for no limit
+     * @throws IOException when the text can't be written
+     */
+    private void render(Appendable out, int limit) throws IOException {
+        out.append("Lists are not similar.").append(BR);
+        if (firstDifference >= 0) {
+            out.append(sortedIndex ? "First difference at index in sorted order: " : "First difference at index: ")
+               .append(String.valueOf(firstDifference)).append(BR);
+        }
+        renderSide(out, "List one: ", remainingOne, limit);
+        renderSide(out, "List two: ", remainingTwo, limit);
+    }
+
+    private static void renderSide(Appendable out, String prefix, List<?> remaining, int limit) throws IOException {
+        final int shown = limit > 0 ? Math.min(limit, remaining.size()) : remaining.size();
+        for (int i = 0; i < shown; i++) {
+            out.append(prefix).append("Remaining: ").append(ReflectionToStringBuilder.toString(remaining.get(i))).append(BR);
+        }
+        if (shown < remaining.size()) {
+            out.append(prefix).append("... ").append(String.valueOf(remaining.size() - shown))
+               .append(" more (").append(String.valueOf(remaining.size())).append(" remaining)").append(BR);
+        }
+    }
+}
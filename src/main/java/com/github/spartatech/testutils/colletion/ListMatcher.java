@@ -0,0 +1,608 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ *
+ * Matching engine used by {@link CollectionAssert}.
+ *
+ * Elements of the right side are bucketed by a key, so each element of the left side is only compared
+ * against the elements sharing its key. Elements that can't be hashed (no key extractor, null key or an exception
+ * while extracting the key) are kept in a fallback list and matched using only the comparator.
+ *
+ * The key extractor must be consistent with the comparator: two elements considered equal by the comparator
+ * must produce equal keys. Under that contract the result is exactly the same as the pairwise scan.
+ *
+ * In parallel mode both sides are partitioned by the hash of the keys and the partitions are matched in a {@link ForkJoinPool}.
+ * Elements only match elements sharing their key, which always land in the same partition, so the result is the same as the sequential match.
+ *
+ * In sorted mode the comparator must define a total order, both sides are walked once in that order and
+ * the elements left over on each side are reported together with the index of the first difference.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Parallel partitioned matching.
+ *    Oct 16, 2026 - Sparta Team - Sorted merge matching.
+ *
+ */
+final class ListMatcher<A> {
+
+    /**
+     * Number of elements handled by each task while extracting keys in parallel.
+     */
+    private static final int KEY_BATCH = 4096;
+
+    private final Function<? super A, ?> keyExtractor;
+    private final Comparator<A> elementComparator;
+
+    /**
+     * Constructor with all values.
+     *
+     * @param keyExtractor function that derives the bucket key of an element, null to use only the comparator
+     * @param elementComparator comparator to compare records
+     */
+    ListMatcher(Function<? super A, ?> keyExtractor, Comparator<A> elementComparator) {
+        this.keyExtractor = keyExtractor;
+        this.elementComparator = elementComparator;
+    }
+
+    /**
+     * Matches the elements of both collections.
+     *
+     * @param listOne left side collection
+     * @param listTwo right side collection
+     * @return result with the elements that were not matched
+     */
+    @SuppressWarnings("unchecked")
+    MatchResult<A> match(final Collection<A> listOne, final Collection<A> listTwo) {
+        final A[] left = (A[]) listOne.toArray();
+        final A[] right = (A[]) listTwo.toArray();
+        final Object[] leftKeys = new Object[left.length];
+        final Object[] rightKeys = new Object[right.length];
+        extractKeys(left, leftKeys, 0, left.length);
+        extractKeys(right, rightKeys, 0, right.length);
+
+        final boolean[] leftMatched = new boolean[left.length];
+        final boolean[] rightMatched = new boolean[right.length];
+        final int lastMatch = new Partition(left, leftKeys, range(left.length), right, rightKeys, range(right.length), leftMatched, rightMatched).match();
+        return result(left, right, leftMatched, rightMatched, lastMatch);
+    }
+
+    /**
+     * Matches the elements of both collections, partitioning them by key and matching the partitions in parallel.
+     * Falls back to the sequential match when any element can't be hashed.
+     *
+     * @param listOne left side collection
+     * @param listTwo right side collection
+     * @param pool pool where the partitions are matched
+     * @return result with the elements that were not matched, same as the sequential match
+     */
+    @SuppressWarnings("unchecked")
+    MatchResult<A> matchParallel(final Collection<A> listOne, final Collection<A> listTwo, final ForkJoinPool pool) {
+        if (keyExtractor == null) {
+            return match(listOne, listTwo);
+        }
+
+        final A[] left = (A[]) listOne.toArray();
+        final A[] right = (A[]) listTwo.toArray();
+        final Object[] leftKeys = new Object[left.length];
+        final Object[] rightKeys = new Object[right.length];
+        pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(new KeyTask(left, leftKeys, 0, left.length), new KeyTask(right, rightKeys, 0, right.length));
+            }
+        });
+        if (hasNull(leftKeys) || hasNull(rightKeys)) {
+            // unhashable elements may match any element, partitions would not be independent
+            return match(listOne, listTwo);
+        }
+
+        final int partitions = Math.max(1, pool.getParallelism() * 4);
+        final int[][] leftPartitions = partition(leftKeys, partitions);
+        final int[][] rightPartitions = partition(rightKeys, partitions);
+        final boolean[] leftMatched = new boolean[left.length];
+        final boolean[] rightMatched = new boolean[right.length];
+        final List<PartitionTask> tasks = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            tasks.add(new PartitionTask(new Partition(left, leftKeys, leftPartitions[i], right, rightKeys, rightPartitions[i], leftMatched, rightMatched)));
+        }
+        pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        int lastMatch = -1;
+        PartitionTask failed = null;
+        for (PartitionTask task : tasks) {
+            lastMatch = Math.max(lastMatch, task.lastMatch);
+            if (task.failure != null && (failed == null || task.failureIndex < failed.failureIndex)) {
+                failed = task;
+            }
+        }
+        if (failed != null) {
+            // rethrown from the caller thread, reports the failure the sequential match would hit first
+            throwUnchecked(failed.failure);
+        }
+        return result(left, right, leftMatched, rightMatched, lastMatch);
+    }
+
+    /**
+     * Matches the elements of both collections walking them in the order of the comparator.
+     *
+     * @param listOne left side collection
+     * @param listTwo right side collection
+     * @param sort true to sort copies of both collections, false when they are already sorted
+     * @return result with the elements that were not matched and the index of the first difference, 
+     *         an index in the sorted copy when the collections were sorted
+     * @throws IllegalArgumentException when a collection trusted to be sorted is not
+     */
+    @SuppressWarnings("unchecked")
+    MatchResult<A> matchSorted(final Collection<A> listOne, final Collection<A> listTwo, boolean sort) {
+        final A[] left = (A[]) listOne.toArray();
+        final A[] right = (A[]) listTwo.toArray();
+        if (sort) {
+            Arrays.sort(left, elementComparator);
+            Arrays.sort(right, elementComparator);
+        } else {
+            checkSorted(left, "one");
+            checkSorted(right, "two");
+        }
+
+        final List<A> remainingOne = new ArrayList<>();
+        final List<A> remainingTwo = new ArrayList<>();
+        int firstDifference = -1;
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            final int comparison;
+            if (i == left.length) {
+                comparison = 1;
+            } else if (j == right.length) {
+                comparison = -1;
+            } else {
+                comparison = elementComparator.compare(left[i], right[j]);
+            }
+
+            if (comparison == 0) {
+                i++;
+                j++;
+                continue;
+            }
+            if (firstDifference < 0) {
+                firstDifference = i;
+            }
+            if (comparison < 0) {
+                remainingOne.add(left[i++]);
+            } else {
+                remainingTwo.add(right[j++]);
+            }
+        }
+        return new MatchResult<>(remainingOne, remainingTwo, false, firstDifference, sort);
+    }
+
+    /**
+     * Checks the elements are sorted, otherwise the merge would report wrong differences.
+     *
+     * @param items elements
+     * @param side name of the list
+     */
+    private void checkSorted(A[] items, String side) {
+        for (int i = 1; i < items.length; i++) {
+            if (elementComparator.compare(items[i - 1], items[i]) > 0) {
+                throw new IllegalArgumentException("List " + side + " is not sorted at index " + i);
+            }
+        }
+    }
+
+    /**
+     * Builds the result of a match.
+     *
+     * @param left elements of list one
+     * @param right elements of list two
+     * @param leftMatched matched flags of list one
+     * @param rightMatched matched flags of list two
+     * @param lastMatch highest index of list one that was matched
+     * @return result of the match
+     */
+    private MatchResult<A> result(A[] left, A[] right, boolean[] leftMatched, boolean[] rightMatched, int lastMatch) {
+        final List<A> remainingTwo = new ArrayList<>();
+        for (int i = 0; i < right.length; i++) {
+            if (!rightMatched[i]) {
+                remainingTwo.add(right[i]);
+            }
+        }
+        final List<A> remainingOne = new ArrayList<>();
+        for (int i = 0; i < left.length; i++) {
+            if (!leftMatched[i]) {
+                remainingOne.add(left[i]);
+            }
+        }
+        // list two ran out of elements while list one still had elements to be processed
+        final boolean listTwoExhausted = remainingTwo.isEmpty() && lastMatch < left.length - 1;
+        return new MatchResult<>(remainingOne, remainingTwo, listTwoExhausted);
+    }
+
+    /**
+     * Derives the keys of a range of elements.
+     *
+     * @param items elements
+     * @param keys where the keys are written
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    private void extractKeys(A[] items, Object[] keys, int from, int to) {
+        for (int i = from; i < to; i++) {
+            keys[i] = keyOf(items[i]);
+        }
+    }
+
+    /**
+     * Derives the key of an element.
+     *
+     * @param item element
+     * @return key or null when the element can't be hashed
+     */
+    private Object keyOf(A item) {
+        if (keyExtractor == null) {
+            return null;
+        }
+        try {
+            return keyExtractor.apply(item);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasNull(Object[] keys) {
+        for (Object key : keys) {
+            if (key == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] range(int size) {
+        final int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+
+    /**
+     * Splits the indexes by the hash of their keys, keeping the original order inside each partition.
+     *
+     * @param keys keys of the elements
+     * @param partitions number of partitions
+     * @return indexes of each partition
+     */
+    private static int[][] partition(Object[] keys, int partitions) {
+        final int[] target = new int[keys.length];
+        final int[] sizes = new int[partitions];
+        for (int i = 0; i < keys.length; i++) {
+            final int hash = keys[i].hashCode();
+            target[i] = Math.floorMod(hash ^ (hash >>> 16), partitions);
+            sizes[target[i]]++;
+        }
+        final int[][] indexes = new int[partitions][];
+        for (int i = 0; i < partitions; i++) {
+            indexes[i] = new int[sizes[i]];
+            sizes[i] = 0;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            indexes[target[i]][sizes[target[i]]++] = i;
+        }
+        return indexes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void throwUnchecked(Throwable failure) throws T {
+        throw (T) failure;
+    }
+
+    /**
+     * Subset of both sides matched together. The matched flags are shared by all partitions,
+     * each partition only touches the indexes it owns.
+     */
+    private final class Partition {
+        private final A[] left;
+        private final Object[] leftKeys;
+        private final int[] leftIndexes;
+        private final A[] right;
+        private final Object[] rightKeys;
+        private final int[] rightIndexes;
+        private final boolean[] leftMatched;
+        private final boolean[] rightMatched;
+        private int current = -1;
+
+        Partition(A[] left, Object[] leftKeys, int[] leftIndexes, A[] right, Object[] rightKeys, int[] rightIndexes,
+                  boolean[] leftMatched, boolean[] rightMatched) {
+            this.left = left;
+            this.leftKeys = leftKeys;
+            this.leftIndexes = leftIndexes;
+            this.right = right;
+            this.rightKeys = rightKeys;
+            this.rightIndexes = rightIndexes;
+            this.leftMatched = leftMatched;
+            this.rightMatched = rightMatched;
+        }
+
+        /**
+         * Matches the partition.
+         *
+         * @return highest index of list one that was matched, -1 if none
+         */
+        int match() {
+            final Map<Object, IntList> buckets = new HashMap<>();
+            final IntList unhashable = new IntList();
+            for (int index : rightIndexes) {
+                final Object key = rightKeys[index];
+                if (key == null) {
+                    unhashable.add(index);
+                } else {
+                    buckets.computeIfAbsent(key, k -> new IntList()).add(index);
+                }
+            }
+
+            int lastMatch = -1;
+            int remaining = rightIndexes.length;
+            for (int position = 0; position < leftIndexes.length && remaining > 0; position++) {
+                current = leftIndexes[position];
+                final A item = left[current];
+                final Object key = leftKeys[current];
+                int index;
+                if (key == null) {
+                    index = scanAll(item);
+                } else {
+                    final IntList bucket = buckets.get(key);
+                    final int bucketIndex = bucket == null ? -1 : bucket.find(item, right, rightMatched, elementComparator, -1);
+                    final int fallbackIndex = unhashable.isEmpty() ? -1 : unhashable.find(item, right, rightMatched, elementComparator, bucketIndex);
+                    // the element found first in list two wins, the other one stays available as it is not flagged
+                    index = fallbackIndex >= 0 ? fallbackIndex : bucketIndex;
+                }
+
+                if (index >= 0) {
+                    leftMatched[current] = true;
+                    rightMatched[index] = true;
+                    lastMatch = current;
+                    remaining--;
+                }
+            }
+            return lastMatch;
+        }
+
+        /**
+         * Comparator only path, scans all the elements of the partition not yet matched.
+         *
+         * @param item element from list one
+         * @return index of the first matching element or -1
+         */
+        private int scanAll(A item) {
+            for (int index : rightIndexes) {
+                if (!rightMatched[index] && elementComparator.compare(item, right[index]) == 0) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Matches one partition, keeping the failure to be rethrown by the caller.
+     */
+    private final class PartitionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Partition partition;
+        private int lastMatch = -1;
+        private Throwable failure;
+        private int failureIndex;
+
+        PartitionTask(Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                lastMatch = partition.match();
+            } catch (Throwable e) {
+                failure = e;
+                failureIndex = partition.current;
+            }
+        }
+    }
+
+    /**
+     * Extracts the keys of a range of elements, splitting the range in batches.
+     */
+    private final class KeyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient A[] items;
+        private final transient Object[] keys;
+        private final int from;
+        private final int to;
+
+        KeyTask(A[] items, Object[] keys, int from, int to) {
+            this.items = items;
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= KEY_BATCH) {
+                extractKeys(items, keys, from, to);
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new KeyTask(items, keys, from, middle), new KeyTask(items, keys, middle, to));
+            }
+        }
+    }
+
+    /**
+     *
+     * Result of a match, carrying the elements not matched on each side in their original order.
+     *
+     * @author Sparta Team
+     *
+     * History:
+     *    Oct 16, 2026 - Sparta Team
+     *
+     */
+    static final class MatchResult<A> {
+        private final List<A> remainingOne;
+        private final List<A> remainingTwo;
+        private final boolean listTwoExhausted;
+        private final int firstDifference;
+        private final boolean sortedIndex;
+
+        /**
+         * Constructor for unordered matches.
+         *
+         * @param remainingOne elements of list one not matched
+         * @param remainingTwo elements of list two not matched
+         * @param listTwoExhausted true when list two ran out of elements before list one was fully processed
+         */
+        MatchResult(List<A> remainingOne, List<A> remainingTwo, boolean listTwoExhausted) {
+            this(remainingOne, remainingTwo, listTwoExhausted, -1, false);
+        }
+
+        /**
+         * Constructor with all values.
+         *
+         * @param remainingOne elements of list one not matched
+         * @param remainingTwo elements of list two not matched
+         * @param listTwoExhausted true when list two ran out of elements before list one was fully processed
+         * @param firstDifference index of list one where the lists diverge, -1 when unknown or not different
+         * @param sortedIndex true when the index is in a sorted copy of list one
+         */
+        MatchResult(List<A> remainingOne, List<A> remainingTwo, boolean listTwoExhausted, int firstDifference, boolean sortedIndex) {
+            this.remainingOne = remainingOne;
+            this.remainingTwo = remainingTwo;
+            this.listTwoExhausted = listTwoExhausted;
+            this.firstDifference = firstDifference;
+            this.sortedIndex = sortedIndex;
+        }
+
+        /**
+         * @return the elements of list one not matched
+         */
+        List<A> getRemainingOne() {
+            return remainingOne;
+        }
+
+        /**
+         * @return the elements of list two not matched
+         */
+        List<A> getRemainingTwo() {
+            return remainingTwo;
+        }
+
+        /**
+         * @return whether list two ran out of elements before list one was fully processed
+         */
+        boolean isListTwoExhausted() {
+            return listTwoExhausted;
+        }
+
+        /**
+         * @return index of list one where the lists diverge, -1 when unknown or not different
+         */
+        int getFirstDifference() {
+            return firstDifference;
+        }
+
+        /**
+         * @return true when {@link #getFirstDifference()} is an index in a sorted copy of list one
+         */
+        boolean isSortedIndex() {
+            return sortedIndex;
+        }
+
+        /**
+         * @return true when every element was matched
+         */
+        boolean isMatch() {
+            return !listTwoExhausted && remainingOne.isEmpty() && remainingTwo.isEmpty();
+        }
+    }
+
+    /**
+     * Growable list of ascending indexes, avoids boxing in the buckets.
+     *
+     * Indexes are not removed when matched, the caller flags them in the matched array. A cursor skips the flagged indexes
+     * at the head, and the flagged indexes found while scanning are dropped by moving the scanned range,
+     * so each search costs the entries it scanned, not the size of the bucket.
+     */
+    private static final class IntList {
+        private int[] values = new int[2];
+        private int start;
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        boolean isEmpty() {
+            return start == size;
+        }
+
+        /**
+         * Finds the first index not matched whose element is equal to the item.
+         *
+         * @param item element from list one
+         * @param right elements of list two
+         * @param matched matched flags of list two
+         * @param comparator comparator of the elements
+         * @param upperBound only indexes lower than this are searched, negative for no bound
+         * @return index of list two, -1 when not found
+         */
+        <A> int find(A item, A[] right, boolean[] matched, Comparator<A> comparator, int upperBound) {
+            final int bound = upperBound < 0 ? Integer.MAX_VALUE : upperBound;
+            int found = -1;
+            int i = start;
+            for (; i < size && values[i] < bound; i++) {
+                final int candidate = values[i];
+                if (!matched[candidate] && comparator.compare(item, right[candidate]) == 0) {
+                    found = candidate;
+                    i++;
+                    break;
+                }
+            }
+            // drops the matched entries of the scanned range, keeping the order of the others
+            int write = i;
+            for (int read = i - 1; read >= start; read--) {
+                if (!matched[values[read]]) {
+                    values[--write] = values[read];
+                }
+            }
+            start = write;
+            return found;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.spartatech.testutils.colletion;
+
+/**
+ * 
+ * How the elements of the lists are matched by {@link CollectionAssert#assertList(java.util.Collection, java.util.Collection, java.util.Comparator, Ordering)}.
+ * 
+ * @author Sparta Team
+ * 
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *
+ */
+public enum Ordering {
+    /**
+     * Order is not relevant, each element is searched in the other list.
+     */
+    UNORDERED,
+    /**
+     * Copies of both lists are sorted with the comparator and walked once.
+     */
+    SORT,
+    /**
+     * Both lists are already sorted by the comparator and are walked once.
+     */
+    SORTED
+}
@@ -0,0 +1,61 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ *
+ * Parallel asserts for large Collections, obtained through {@link CollectionAssert#parallel()}.
+ *
+ * Both lists are partitioned by the hash of the element keys and the partitions are matched in a {@link ForkJoinPool}.
+ * Results and failure messages are the same as the ones from {@link CollectionAssert}.
+ * When there is no key for every element the lists are matched sequentially.
+ * Comparators and key extractors must be thread safe.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *
+ */
+public final class ParallelCollectionAssert {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor receiving the pool.
+     *
+     * @param pool pool where the matching will run
+     */
+    ParallelCollectionAssert(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Compares two lists using the comparator, matching in parallel the elements sharing the same key.
+     * The key extractor must be consistent with the comparator (elements that compare as equal must have equal keys).
+     *
+     * @param <A> Type of list element
+     * @param listOne left side list
+     * @param listTwo right side list
+     * @param keyExtractor function deriving the key of an element
+     * @param elementComparator comparator to compare records
+     */
+    public <A> void assertList(final Collection<A> listOne, final Collection<A> listTwo, Function<? super A, ?> keyExtractor, Comparator<A> elementComparator) {
+        CollectionAssert.assertMatch(new ListMatcher<A>(keyExtractor, elementComparator).matchParallel(listOne, listTwo, pool));
+    }
+
+    /**
+     * Assert that two lists are same using reflection to compare elements, matching them in parallel.
+     *
+     * @param <A> Type of list element
+     * @param listOne List one to be compared
+     * @param listTwo list two compared
+     * @param excludedFields fields to exclude from comparison
+     */
+    public <A> void assertListByReflection(final Collection<A> listOne, final Collection<A> listTwo, String...excludedFields) {
+        CollectionAssert.assertMatch(CollectionAssert.reflectionMatcher(listOne, listTwo, excludedFields).matchParallel(listOne, listTwo, pool));
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *
+ * Per class field comparison plan, used by {@code CollectionAssert.assertListByReflection}.
+ *
+ * The declared instance fields of a class are looked up, made accessible and bound to {@link MethodHandle} getters only once,
+ * the plan is then cached in a {@link ClassValue}, so comparing elements does no reflection metadata work.
+ * A second plan, with the non transient instance fields of the whole class hierarchy, is used by {@link DeepEquals} 
+ * to compare nested objects.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *
+ */
+final class ReflectionPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ReflectionPlan> PLANS = new ClassValue<ReflectionPlan>() {
+        @Override
+        protected ReflectionPlan computeValue(Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+            return new ReflectionPlan(fields);
+        }
+    };
+    
+    private static final ClassValue<ReflectionPlan> HIERARCHY_PLANS = new ClassValue<ReflectionPlan>() {
+        @Override
+        protected ReflectionPlan computeValue(Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return new ReflectionPlan(fields);
+        }
+    };
+
+    private final String[] names;
+    private final MethodHandle[] getters;
+    private final RuntimeException[] failures;
+
+    /**
+     * Builds the plan for the fields of a class.
+     *
+     * @param fields fields to be read
+     */
+    private ReflectionPlan(List<Field> fields) {
+        names = new String[fields.size()];
+        getters = new MethodHandle[fields.size()];
+        failures = new RuntimeException[fields.size()];
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (int i = 0; i < fields.size(); i++) {
+            final Field field = fields.get(i);
+            names[i] = field.getName();
+            try {
+                field.setAccessible(true);
+                getters[i] = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                failures[i] = new IllegalStateException(e.getMessage(), e);
+            } catch (RuntimeException e) {
+                // i.e. InaccessibleObjectException, reported only if the field is compared
+                failures[i] = e;
+            }
+        }
+    }
+
+    /**
+     * Returns the cached plan for the declared instance fields of a class.
+     *
+     * @param type class
+     * @return plan for the class
+     */
+    static ReflectionPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the cached plan for the non transient instance fields of a class and its superclasses.
+     *
+     * @param type class
+     * @return plan for the class hierarchy
+     */
+    static ReflectionPlan hierarchyOf(Class<?> type) {
+        return HIERARCHY_PLANS.get(type);
+    }
+
+    /**
+     * @return number of fields in the plan
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * @param index field index
+     * @return name of the field
+     */
+    String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Reads a field value.
+     *
+     * @param index field index
+     * @param target object to be read
+     * @return field value
+     * @throws Exception when the field can't be read from the target
+     */
+    Object get(int index, Object target) throws Exception {
+        if (failures[index] != null) {
+            throw failures[index];
+        }
+        try {
+            return (Object) getters[index].invokeExact(target);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Builds the set of fields to be compared.
+     *
+     * @param excludedFields names of the fields excluded from the comparison
+     * @return bitset with the indexes of the included fields
+     */
+    BitSet included(Set<String> excludedFields) {
+        final BitSet included = new BitSet(names.length);
+        for (int i = 0; i < names.length; i++) {
+            if (!excludedFields.contains(names[i])) {
+                included.set(i);
+            }
+        }
+        return included;
+    }
+
+    /**
+     *
+     * Caches the included fields of each plan for one set of excluded fields.
+     *
+     * @author Sparta Team
+     *
+     * History:
+     *    Oct 16, 2026 - Sparta Team
+     *
+     */
+    static final class FieldSelector {
+        private final Set<String> excludedFields;
+        private final ConcurrentMap<ReflectionPlan, BitSet> selections = new ConcurrentHashMap<>();
+
+        /**
+         * Constructor receiving the excluded fields.
+         *
+         * @param excludedFields fields to exclude from comparison
+         */
+        FieldSelector(String... excludedFields) {
+            this.excludedFields = new HashSet<>(Arrays.asList(excludedFields));
+        }
+
+        /**
+         * @param plan plan of the class being compared
+         * @return indexes of the fields to be compared
+         */
+        BitSet included(ReflectionPlan plan) {
+            final BitSet included = selections.get(plan);
+            return included != null ? included : selections.computeIfAbsent(plan, p -> p.included(excludedFields));
+        }
+    }
+}
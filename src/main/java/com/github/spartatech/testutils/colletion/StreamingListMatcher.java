@@ -0,0 +1,481 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.github.spartatech.testutils.colletion.ListMatcher.MatchResult;
+
+/**
+ *
+ * Matching engine used by {@code CollectionAssert.assertStream}, consumes both sources incrementally.
+ *
+ * Both sources are read alternately and each element is matched against the unmatched elements of the other side
+ * sharing its key, so only the unmatched elements are kept in memory. Once the number of unmatched elements passes
+ * the threshold, they are spilled to temporary files partitioned by key, and so is every element read from there on.
+ * Each partition is then matched on its own: the elements of source one are loaded and the elements of source two are
+ * streamed against them. Partitions with more elements of source one than the threshold are split again with another hash
+ * before being loaded, so at most threshold elements are loaded at once, unless a single key has more elements than that.
+ *
+ * Elements are only matched against elements with an equal key, null keys included. Elements whose key can't be derived
+ * (the key extractor throws) have a null key, as in {@link ListMatcher}. Spilled elements must be Serializable.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Partitions split again to bound memory, key extractor failures as null keys.
+ *
+ */
+final class StreamingListMatcher<A> {
+
+    /**
+     * Number of partition files for each side once elements are spilled.
+     */
+    private static final int PARTITIONS = 64;
+
+    /**
+     * Max number of partitions a partition over the threshold is split into.
+     */
+    private static final int MAX_SPLIT = 1024;
+
+    /**
+     * Objects written before the stream handle table is reset, so written objects can be collected.
+     */
+    private static final int RESET_INTERVAL = 1024;
+
+    private final Function<? super A, ?> keyExtractor;
+    private final Comparator<A> elementComparator;
+    private final int spillThreshold;
+
+    /**
+     * Constructor with all values.
+     *
+     * @param keyExtractor function that derives the key of an element
+     * @param elementComparator comparator to compare records
+     * @param spillThreshold number of unmatched elements kept in memory before spilling to disk
+     */
+    StreamingListMatcher(Function<? super A, ?> keyExtractor, Comparator<A> elementComparator, int spillThreshold) {
+        if (spillThreshold <= 0) {
+            throw new IllegalArgumentException("Spill threshold must be positive");
+        }
+        this.keyExtractor = keyExtractor;
+        this.elementComparator = elementComparator;
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * Matches the elements of both sources.
+     *
+     * @param sourceOne left side source
+     * @param sourceTwo right side source
+     * @return result with the elements that were not matched, in the order they were read
+     */
+    MatchResult<A> match(final Iterator<A> sourceOne, final Iterator<A> sourceTwo) {
+        final Side one = new Side();
+        final Side two = new Side();
+        Spill spill = null;
+        long sequence = 0;
+        long lastOfOne = -1;
+        try {
+            while (sourceOne.hasNext() || sourceTwo.hasNext()) {
+                if (sourceOne.hasNext()) {
+                    lastOfOne = sequence;
+                    spill = accept(new Entry<>(sequence++, sourceOne.next()), one, two, true, spill);
+                }
+                if (sourceTwo.hasNext()) {
+                    spill = accept(new Entry<>(sequence++, sourceTwo.next()), two, one, false, spill);
+                }
+            }
+
+            if (spill != null) {
+                spill.match(one, two);
+            }
+            // same as ListMatcher: list two ran out of elements while the last element of list one was not matched
+            final boolean listTwoExhausted = two.size == 0 && one.contains(lastOfOne);
+            return new MatchResult<>(one.remaining(), two.remaining(), listTwoExhausted);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill unmatched elements to disk", e);
+        } finally {
+            if (spill != null) {
+                spill.delete();
+            }
+        }
+    }
+
+    /**
+     * Matches one element against the unmatched elements of the other side.
+     *
+     * @param entry element read
+     * @param own side where the element was read
+     * @param other opposite side
+     * @param fromOne true when the element came from source one
+     * @param spill spill files, null while everything fits in memory
+     * @return spill files, created when the threshold was passed
+     * @throws IOException when spilling fails
+     */
+    private Spill accept(Entry<A> entry, Side own, Side other, boolean fromOne, Spill spill) throws IOException {
+        final Object key = keyOf(entry.item);
+        if (spill != null) {
+            spill.write(key, entry, fromOne);
+            return spill;
+        }
+
+        if (!other.remove(key, entry.item, fromOne)) {
+            own.add(key, entry);
+        }
+        if (own.size + other.size > spillThreshold) {
+            final Spill created = new Spill();
+            try {
+                created.writeAll(fromOne ? own : other, true);
+                created.writeAll(fromOne ? other : own, false);
+            } catch (IOException | RuntimeException e) {
+                created.delete();
+                throw e;
+            }
+            return created;
+        }
+        return null;
+    }
+
+    /**
+     * Derives the key of an element.
+     *
+     * @param item element
+     * @return key or null when the element can't be hashed
+     */
+    private Object keyOf(A item) {
+        if (keyExtractor == null) {
+            return null;
+        }
+        try {
+            return keyExtractor.apply(item);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private int compare(A itemOne, A itemTwo) {
+        return elementComparator.compare(itemOne, itemTwo);
+    }
+
+    /**
+     * Element read from a source, with its position across both sources.
+     */
+    private static final class Entry<A> {
+        private final long sequence;
+        private final A item;
+
+        Entry(long sequence, A item) {
+            this.sequence = sequence;
+            this.item = item;
+        }
+    }
+
+    /**
+     * Unmatched elements of one side, bucketed by key.
+     */
+    private final class Side {
+        private final Map<Object, Deque<Entry<A>>> buckets = new HashMap<>();
+        private int size;
+
+        void add(Object key, Entry<A> entry) {
+            buckets.computeIfAbsent(key, k -> new ArrayDeque<>()).add(entry);
+            size++;
+        }
+
+        /**
+         * Removes the first element matching the item.
+         *
+         * @param key key of the item
+         * @param item item from the opposite side
+         * @param itemFromOne true when the item came from source one
+         * @return true when a match was found and removed
+         */
+        boolean remove(Object key, A item, boolean itemFromOne) {
+            final Deque<Entry<A>> bucket = buckets.get(key);
+            if (bucket == null) {
+                return false;
+            }
+            for (Iterator<Entry<A>> it = bucket.iterator(); it.hasNext();) {
+                final A candidate = it.next().item;
+                if ((itemFromOne ? compare(item, candidate) : compare(candidate, item)) == 0) {
+                    it.remove();
+                    if (bucket.isEmpty()) {
+                        buckets.remove(key);
+                    }
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @param sequence sequence of an element
+         * @return true when the element is still unmatched
+         */
+        boolean contains(long sequence) {
+            for (Deque<Entry<A>> bucket : buckets.values()) {
+                for (Entry<A> entry : bucket) {
+                    if (entry.sequence == sequence) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        List<A> remaining() {
+            final List<Entry<A>> entries = new ArrayList<>(size);
+            buckets.values().forEach(entries::addAll);
+            entries.sort((e1, e2) -> Long.compare(e1.sequence, e2.sequence));
+            final List<A> items = new ArrayList<>(entries.size());
+            entries.forEach(entry -> items.add(entry.item));
+            return items;
+        }
+
+        void clear() {
+            buckets.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * Temporary files holding the elements of both sides, partitioned by key.
+     */
+    private final class Spill {
+        private final Path directory;
+        private final Partitions partitions;
+        private int fileCount;
+
+        Spill() throws IOException {
+            directory = Files.createTempDirectory("sparta-test-utils-");
+            partitions = new Partitions(PARTITIONS, 0);
+        }
+
+        void writeAll(Side side, boolean fromOne) throws IOException {
+            for (Map.Entry<Object, Deque<Entry<A>>> bucket : side.buckets.entrySet()) {
+                for (Entry<A> entry : bucket.getValue()) {
+                    write(bucket.getKey(), entry, fromOne);
+                }
+            }
+            side.clear();
+        }
+
+        void write(Object key, Entry<A> entry, boolean fromOne) throws IOException {
+            partitions.write(key, entry, fromOne);
+        }
+
+        /**
+         * Matches the spilled elements, partition by partition.
+         *
+         * @param remainingOne where the elements of source one not matched are added
+         * @param remainingTwo where the elements of source two not matched are added
+         * @throws IOException when the files can't be read
+         */
+        void match(Side remainingOne, Side remainingTwo) throws IOException {
+            match(partitions, Integer.MAX_VALUE, remainingOne, remainingTwo);
+        }
+
+        private void match(Partitions spilled, int parentCount, Side remainingOne, Side remainingTwo) throws IOException {
+            spilled.close();
+            for (int partition = 0; partition < spilled.count; partition++) {
+                final int count = spilled.written[0][partition];
+                if (count > spillThreshold && count < parentCount) {
+                    // split with another hash, unless the last split did not separate the keys
+                    final Partitions split = new Partitions(Math.min(MAX_SPLIT, count / spillThreshold + 1), spilled.level + 1);
+                    try {
+                        copy(spilled.files[0][partition], split, true);
+                        copy(spilled.files[1][partition], split, false);
+                        spilled.delete(partition);
+                        match(split, count, remainingOne, remainingTwo);
+                    } finally {
+                        split.delete();
+                    }
+                } else {
+                    matchPartition(spilled.files[0][partition], spilled.files[1][partition], remainingOne, remainingTwo);
+                    spilled.delete(partition);
+                }
+            }
+        }
+
+        private void matchPartition(Path fileOne, Path fileTwo, Side remainingOne, Side remainingTwo) throws IOException {
+            final Side one = new Side();
+            try (Reader reader = new Reader(fileOne)) {
+                for (Entry<A> entry = reader.next(); entry != null; entry = reader.next()) {
+                    one.add(keyOf(entry.item), entry);
+                }
+            }
+            try (Reader reader = new Reader(fileTwo)) {
+                for (Entry<A> entry = reader.next(); entry != null; entry = reader.next()) {
+                    final Object key = keyOf(entry.item);
+                    if (!one.remove(key, entry.item, false)) {
+                        remainingTwo.add(key, entry);
+                    }
+                }
+            }
+            one.buckets.forEach((key, entries) -> entries.forEach(entry -> remainingOne.add(key, entry)));
+        }
+
+        private void copy(Path file, Partitions target, boolean fromOne) throws IOException {
+            try (Reader reader = new Reader(file)) {
+                for (Entry<A> entry = reader.next(); entry != null; entry = reader.next()) {
+                    target.write(keyOf(entry.item), entry, fromOne);
+                }
+            }
+        }
+
+        void delete() {
+            partitions.delete();
+            try {
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                CollectionAssert.LOGGER.warn("Could not delete spill directory {}", directory, e);
+            }
+        }
+
+        /**
+         * One file per partition and side, elements are written in the order they were read,
+         * so elements with the same key keep their order.
+         */
+        private final class Partitions {
+            private final int count;
+            private final int level;
+            private final Path[][] files;
+            private final ObjectOutputStream[][] outputs;
+            private final int[][] written;
+
+            Partitions(int count, int level) {
+                this.count = count;
+                this.level = level;
+                files = new Path[2][count];
+                outputs = new ObjectOutputStream[2][count];
+                written = new int[2][count];
+            }
+
+            void write(Object key, Entry<A> entry, boolean fromOne) throws IOException {
+                final int sideIndex = fromOne ? 0 : 1;
+                final int partition = partitionOf(key);
+                ObjectOutputStream output = outputs[sideIndex][partition];
+                if (output == null) {
+                    files[sideIndex][partition] = directory.resolve((fromOne ? "one-" : "two-") + fileCount++);
+                    output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(files[sideIndex][partition])));
+                    outputs[sideIndex][partition] = output;
+                }
+                output.writeLong(entry.sequence);
+                try {
+                    output.writeObject(entry.item);
+                } catch (NotSerializableException e) {
+                    throw new IllegalArgumentException("Elements must be Serializable to be spilled to disk: " + e.getMessage(), e);
+                }
+                if (++written[sideIndex][partition] % RESET_INTERVAL == 0) {
+                    output.reset();
+                }
+            }
+
+            void close() throws IOException {
+                for (ObjectOutputStream[] sideOutputs : outputs) {
+                    for (int partition = 0; partition < count; partition++) {
+                        if (sideOutputs[partition] != null) {
+                            sideOutputs[partition].close();
+                            sideOutputs[partition] = null;
+                        }
+                    }
+                }
+            }
+
+            void delete(int partition) {
+                for (int side = 0; side < 2; side++) {
+                    try {
+                        if (outputs[side][partition] != null) {
+                            outputs[side][partition].close();
+                            outputs[side][partition] = null;
+                        }
+                        if (files[side][partition] != null) {
+                            Files.deleteIfExists(files[side][partition]);
+                            files[side][partition] = null;
+                        }
+                    } catch (IOException e) {
+                        CollectionAssert.LOGGER.warn("Could not delete spill file {}", files[side][partition], e);
+                    }
+                }
+            }
+
+            void delete() {
+                for (int partition = 0; partition < count; partition++) {
+                    delete(partition);
+                }
+            }
+
+            /**
+             * Partition of a key, each level mixes the hash differently so a split partition spreads its keys.
+             *
+             * @param key key
+             * @return partition index
+             */
+            private int partitionOf(Object key) {
+                int hash = (key == null ? 0 : key.hashCode()) + level * 0x9E3779B9;
+                hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+                hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+                return Math.floorMod(hash ^ (hash >>> 16), count);
+            }
+        }
+
+        /**
+         * Reads the elements of a partition file one at a time.
+         */
+        private final class Reader implements AutoCloseable {
+            private final ObjectInputStream input;
+
+            Reader(Path file) throws IOException {
+                input = file == null ? null : new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            }
+
+            /**
+             * @return next element, null at the end of the file
+             * @throws IOException when the file can't be read
+             */
+            @SuppressWarnings("unchecked")
+            Entry<A> next() throws IOException {
+                if (input == null) {
+                    return null;
+                }
+                final long sequence;
+                try {
+                    sequence = input.readLong();
+                } catch (EOFException e) {
+                    return null;
+                }
+                try {
+                    return new Entry<>(sequence, (A) input.readObject());
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (input != null) {
+                    input.close();
+                }
+            }
+        }
+    }
+}
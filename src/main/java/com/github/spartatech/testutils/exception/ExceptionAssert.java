@@ -15,6 +15,7 @@ import org.junit.Assert;
  *
  * History:
  *  Apr 3, 2017 - Daniel Conde Diehl
+ *  Oct 16, 2026 - Sparta Team - Comparison shared with the stress asserts.
  */
 
 public abstract class ExceptionAssert {
@@ -32,12 +33,22 @@ public abstract class ExceptionAssert {
 			processable.process();
 			fail("Expected Exception: " + expected.getClass());
 		} catch (Exception actual) {
-			Assert.assertEquals(expected.getClass(), actual.getClass());
-			Assert.assertEquals(expected.getMessage(), actual.getMessage());
+			assertSameException(expected, actual);
 			if (throwActualException) {
 				throw actual;
 			}
 		}
 	}
 	
+	/**
+	 * Asserts that an exception has the same class and message as the expected one.
+	 * 
+	 * @param expected Expected exception with the message
+	 * @param actual exception thrown
+	 */
+	public static void assertSameException (Throwable expected, Throwable actual) {
+		Assert.assertEquals(expected.getClass(), actual.getClass());
+		Assert.assertEquals(expected.getMessage(), actual.getMessage());
+	}
+	
 }
@@ -0,0 +1,112 @@
+package com.github.spartatech.testutils.logback;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+
+/**
+ *
+ * Snapshot of a log event kept by {@link EventCapture}, with the global sequence in which it was received.
+ *
+ * Only the values compared by the asserter are copied, the Logback event (MDC, caller data, throwable) is not retained.
+ * Params can also be kept formatted as Strings, so the objects logged are not retained either.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Compact snapshot instead of the Logback event.
+ *    Oct 16, 2026 - Sparta Team - Formatted message.
+ *
+ */
+final class CapturedEvent {
+
+    private final long sequence;
+    private final Level level;
+    private final String message;
+    private final Object[] arguments;
+    private final boolean formatted;
+    private volatile String formattedMessage;
+
+    /**
+     * Constructor keeping the params as they were logged.
+     *
+     * @param sequence order in which the event was received, across all threads
+     * @param event log event
+     */
+    CapturedEvent(long sequence, ILoggingEvent event) {
+        this(sequence, event, false);
+    }
+
+    /**
+     * Constructor with all values.
+     *
+     * @param sequence order in which the event was received, across all threads
+     * @param event log event
+     * @param formatArguments true to keep the params as Strings, nulls are kept as null
+     */
+    CapturedEvent(long sequence, ILoggingEvent event, boolean formatArguments) {
+        this.sequence = sequence;
+        this.level = event.getLevel();
+        this.message = event.getMessage();
+        this.formatted = formatArguments;
+        final Object[] logged = event.getArgumentArray();
+        if (formatArguments && logged != null) {
+            arguments = new String[logged.length];
+            for (int i = 0; i < logged.length; i++) {
+                arguments[i] = logged[i] == null ? null : logged[i].toString();
+            }
+        } else {
+            arguments = logged;
+        }
+    }
+
+    /**
+     * @return the order in which the event was received, across all threads
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the level
+     */
+    Level getLevel() {
+        return level;
+    }
+
+    /**
+     * @return the message
+     */
+    String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return the message with the params, formatted on the first call
+     */
+    String getFormattedMessage() {
+        String result = formattedMessage;
+        if (result == null) {
+            result = MessageFormatter.arrayFormat(message, arguments).getMessage();
+            formattedMessage = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the params, as Strings when {@link #isFormatted()}
+     */
+    Object[] getArgumentArray() {
+        return arguments;
+    }
+
+    /**
+     * @return true when the params were kept as Strings
+     */
+    boolean isFormatted() {
+        return formatted;
+    }
+}
@@ -0,0 +1,288 @@
+package com.github.spartatech.testutils.logback;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.github.spartatech.testutils.logback.constant.CaptureMode;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+
+/**
+ *
+ * Storage of the log events received by {@link UnitTestAsserterLogbackAppender}, one implementation for each {@link CaptureMode}.
+ *
+ * Events can be added from any thread without locks. Each event gets a global sequence number when received,
+ * and {@link #getEvents()} returns a copy ordered by that sequence, so asserting while other threads are still logging is safe.
+ * A thread can take a sequence and store its event only after later events were stored, 
+ * {@link #getEventsFrom(long)} returns only the events up to such a gap, so incremental checks never skip an event.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Lock free storage with global sequence.
+ *    Oct 16, 2026 - Sparta Team - Streaming mode.
+ *    Oct 16, 2026 - Sparta Team - Formatted params option.
+ *    Oct 16, 2026 - Sparta Team - Incremental reads up to the first gap in the sequence.
+ *
+ */
+abstract class EventCapture {
+
+    private static final Comparator<CapturedEvent> BY_SEQUENCE = Comparator.comparingLong(CapturedEvent::getSequence);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong stored = new AtomicLong();
+    private volatile boolean formatArguments;
+
+    /**
+     * Creates the storage for a capture mode.
+     *
+     * @param mode capture mode
+     * @param capacity number of events kept in {@link CaptureMode#LAST_N} and {@link CaptureMode#STREAMING} modes
+     * @param expectations expected entries, used in {@link CaptureMode#EXPECTED_ONLY} and {@link CaptureMode#STREAMING} modes
+     * @return event storage
+     */
+    static EventCapture of(CaptureMode mode, int capacity, Expectations expectations) {
+        switch (mode) {
+            case LAST_N:
+                return new Ring(capacity);
+            case EXPECTED_ONLY:
+                return new Filtered(expectations);
+            case STREAMING:
+                return new StreamingMatcher(expectations, capacity);
+            default:
+                return new All();
+        }
+    }
+
+    /**
+     * Stores an event, may be called from any thread.
+     *
+     * @param event log event received
+     */
+    void add(ILoggingEvent event) {
+        store(snapshot(sequence.getAndIncrement(), event));
+        stored.incrementAndGet();
+    }
+
+    /**
+     * @return number of events stored so far, without copying them
+     */
+    long getStoredCount() {
+        return stored.get();
+    }
+
+    /**
+     * @return number of sequences given to events so far, some of their events may not be stored yet
+     */
+    long getNextSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * Copies the values of an event that are asserted.
+     *
+     * @param eventSequence order in which the event was received
+     * @param event log event received
+     * @return snapshot of the event
+     */
+    CapturedEvent snapshot(long eventSequence, ILoggingEvent event) {
+        return new CapturedEvent(eventSequence, event, formatArguments);
+    }
+
+    /**
+     * @param format true to keep the params of the next events as Strings
+     */
+    void setFormatArguments(boolean format) {
+        this.formatArguments = format;
+    }
+
+    /**
+     * Stores an event with its sequence.
+     *
+     * @param event event to store
+     */
+    abstract void store(CapturedEvent event);
+
+    /**
+     * @return copy of the events kept, in the order they were received
+     */
+    abstract List<CapturedEvent> getEvents();
+
+    /**
+     * Reads the events kept from a sequence on, stopping before the first sequence whose event is not stored yet.
+     * Events that were not kept (i.e. overwritten in {@link Ring}) are skipped.
+     *
+     * @param fromSequence first sequence to read
+     * @return copy of the events, in the order they were received
+     */
+    abstract List<CapturedEvent> getEventsFrom(long fromSequence);
+
+    /**
+     * @return true when every event received is kept, false when old events may be discarded
+     */
+    boolean keepsAll() {
+        return true;
+    }
+
+    /**
+     * Sorts events by sequence, threads may store events slightly out of order.
+     *
+     * @param events events
+     * @return the same list, sorted
+     */
+    static List<CapturedEvent> sorted(List<CapturedEvent> events) {
+        events.sort(BY_SEQUENCE);
+        return events;
+    }
+
+    /**
+     * Keeps every event. Logging threads only add to a lock free queue, the asserting thread moves the events from there
+     * to a list ordered by sequence, so each event is ordered once. Every stored event has a sequence, 
+     * so the events in the list are the ones with sequence 0 to size - 1.
+     */
+    static class All extends EventCapture {
+        private final Queue<CapturedEvent> received = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Events with contiguous sequences from 0, guarded by this.
+         */
+        private final List<CapturedEvent> ordered = new ArrayList<>();
+
+        /**
+         * Events stored after a gap in the sequence, guarded by this.
+         */
+        private final PriorityQueue<CapturedEvent> early = new PriorityQueue<>(BY_SEQUENCE);
+
+        @Override
+        void store(CapturedEvent event) {
+            received.add(event);
+        }
+
+        @Override
+        synchronized List<CapturedEvent> getEvents() {
+            drain();
+            final List<CapturedEvent> events = new ArrayList<>(ordered.size() + early.size());
+            events.addAll(ordered);
+            if (!early.isEmpty()) {
+                events.addAll(sorted(new ArrayList<>(early)));
+            }
+            return events;
+        }
+
+        @Override
+        synchronized List<CapturedEvent> getEventsFrom(long fromSequence) {
+            drain();
+            final int from = (int) Math.min(Math.max(fromSequence, 0), ordered.size());
+            return new ArrayList<>(ordered.subList(from, ordered.size()));
+        }
+
+        /**
+         * Moves the events received to the ordered list, as far as their sequences are contiguous.
+         */
+        private void drain() {
+            for (CapturedEvent event = received.poll(); event != null; event = received.poll()) {
+                early.add(event);
+            }
+            while (!early.isEmpty() && early.peek().getSequence() == ordered.size()) {
+                ordered.add(early.poll());
+            }
+        }
+    }
+
+    /**
+     * Keeps only the events with the message of an expectation.
+     */
+    static final class Filtered extends All {
+        private final Expectations expectations;
+
+        Filtered(Expectations expectations) {
+            this.expectations = expectations;
+        }
+
+        @Override
+        void add(ILoggingEvent event) {
+            if (expectations.isExpected(event)) {
+                super.add(event);
+            }
+        }
+    }
+
+    /**
+     * Keeps the last events in a buffer allocated upfront, older events are overwritten.
+     */
+    static final class Ring extends EventCapture {
+        private final AtomicReferenceArray<CapturedEvent> buffer;
+
+        Ring(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Capacity must be positive");
+            }
+            buffer = new AtomicReferenceArray<>(capacity);
+        }
+
+        @Override
+        void store(CapturedEvent event) {
+            final int slot = (int) (event.getSequence() % buffer.length());
+            CapturedEvent current;
+            do {
+                current = buffer.get(slot);
+                if (current != null && current.getSequence() > event.getSequence()) {
+                    // a newer event already took the slot
+                    return;
+                }
+            } while (!buffer.compareAndSet(slot, current, event));
+        }
+
+        @Override
+        List<CapturedEvent> getEvents() {
+            final List<CapturedEvent> events = new ArrayList<>(buffer.length());
+            for (int i = 0; i < buffer.length(); i++) {
+                final CapturedEvent event = buffer.get(i);
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+            return sorted(events);
+        }
+
+        @Override
+        List<CapturedEvent> getEventsFrom(long fromSequence) {
+            return getEventsBetween(fromSequence, getNextSequence());
+        }
+
+        /**
+         * Reads the events kept between two sequences, stopping before the first one not stored yet.
+         *
+         * @param fromSequence first sequence to read
+         * @param next sequence after the last one to read
+         * @return copy of the events, in the order they were received
+         */
+        List<CapturedEvent> getEventsBetween(long fromSequence, long next) {
+            final List<CapturedEvent> events = new ArrayList<>();
+            for (long current = Math.max(fromSequence, next - buffer.length()); current < next; current++) {
+                final CapturedEvent event = buffer.get((int) (current % buffer.length()));
+                if (event == null || event.getSequence() < current) {
+                    // not stored yet
+                    break;
+                }
+                if (event.getSequence() == current) {
+                    events.add(event);
+                }
+            }
+            return events;
+        }
+
+        @Override
+        boolean keepsAll() {
+            return false;
+        }
+    }
+}
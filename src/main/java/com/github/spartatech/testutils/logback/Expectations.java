@@ -0,0 +1,390 @@
+package com.github.spartatech.testutils.logback;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.ComparisonFailure;
+
+import com.github.spartatech.testutils.logback.constant.ExpectValue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+
+/**
+ *
+ * Expected log entries of {@link UnitTestAsserterLogback}, in the order they were added.
+ *
+ * Entries are kept in parallel arrays (level, message and params) instead of one object per entry,
+ * so large sets of expectations are compact and read sequentially when asserted. Entries are never removed,
+ * asserting does not change them. Entries with a {@link ValueMatcher} as message have no exact message, 
+ * they are looked up by level only.
+ *
+ * Entries are added by the test thread. Logging threads read a {@link #snapshot()}, entries below its size never change,
+ * so it can be read without locking.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Comparison moved from the asserter, readable from logging threads.
+ *    Oct 16, 2026 - Sparta Team - Formatted params compared as Strings.
+ *    Oct 16, 2026 - Sparta Team - Message and param matchers.
+ *    Oct 16, 2026 - Sparta Team - Snapshots read without locking.
+ *
+ */
+final class Expectations {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] levels = new int[INITIAL_CAPACITY];
+    private String[] messages = new String[INITIAL_CAPACITY];
+    private ValueMatcher[] messageMatchers = new ValueMatcher[INITIAL_CAPACITY];
+    private boolean[] formattedMessages = new boolean[INITIAL_CAPACITY];
+    private Object[][] params = new Object[INITIAL_CAPACITY][];
+    private volatile int size;
+
+    /**
+     * Messages of all entries, read by logging threads without locking.
+     */
+    private final Set<String> expectedMessages;
+
+    /**
+     * Matchers of the messages, read by logging threads without locking.
+     */
+    private final List<ValueMatcher> templateMatchers;
+    private final List<ValueMatcher> formattedMatchers;
+
+    /**
+     * Constructor without entries.
+     */
+    Expectations() {
+        expectedMessages = ConcurrentHashMap.newKeySet();
+        templateMatchers = new CopyOnWriteArrayList<>();
+        formattedMatchers = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Constructor of a snapshot, sharing the arrays, entries below the size are never written again.
+     *
+     * @param source expectations being copied, locked by the caller
+     */
+    private Expectations(Expectations source) {
+        levels = source.levels;
+        messages = source.messages;
+        messageMatchers = source.messageMatchers;
+        formattedMessages = source.formattedMessages;
+        params = source.params;
+        size = source.size;
+        expectedMessages = source.expectedMessages;
+        templateMatchers = source.templateMatchers;
+        formattedMatchers = source.formattedMatchers;
+    }
+
+    /**
+     * Copies the entries added so far, without copying the arrays. 
+     * The snapshot does not change when entries are added, so it can be read by any thread once safely published.
+     *
+     * @return expectations with the entries added so far
+     */
+    synchronized Expectations snapshot() {
+        return new Expectations(this);
+    }
+
+    /**
+     * Adds an expected entry.
+     *
+     * @param level log level for the message
+     * @param message text message, null for events without a message
+     * @param entryParams params used in the log
+     */
+    synchronized void add(Level level, String message, Object[] entryParams) {
+        if (message == null) {
+            add(level, ValueMatcher.matching(Objects::isNull), false, entryParams);
+            return;
+        }
+        append(level, message, null, false, entryParams);
+        expectedMessages.add(message);
+    }
+
+    /**
+     * Adds an expected entry with a matcher for the message.
+     *
+     * @param level log level for the message
+     * @param message matcher for the message
+     * @param formatted true to match the message with the params, in that case the params are not compared
+     * @param entryParams params used in the log
+     */
+    synchronized void add(Level level, ValueMatcher message, boolean formatted, Object[] entryParams) {
+        append(level, null, message, formatted, entryParams);
+        (formatted ? formattedMatchers : templateMatchers).add(message);
+    }
+
+    private void append(Level level, String message, ValueMatcher messageMatcher, boolean formatted, Object[] entryParams) {
+        if (size == levels.length) {
+            final int capacity = size * 2;
+            levels = Arrays.copyOf(levels, capacity);
+            messages = Arrays.copyOf(messages, capacity);
+            messageMatchers = Arrays.copyOf(messageMatchers, capacity);
+            formattedMessages = Arrays.copyOf(formattedMessages, capacity);
+            params = Arrays.copyOf(params, capacity);
+        }
+        levels[size] = level.toInt();
+        messages[size] = message;
+        messageMatchers[size] = messageMatcher;
+        formattedMessages[size] = formatted;
+        params[size] = entryParams;
+        size++;
+    }
+
+    /**
+     * @return number of expected entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param index entry index
+     * @return the level as an int
+     */
+    int getLevel(int index) {
+        return levels[index];
+    }
+
+    /**
+     * @param index entry index
+     * @return the message, null when the message is matched by a {@link ValueMatcher}
+     */
+    String getMessage(int index) {
+        return messages[index];
+    }
+
+    /**
+     * @param index entry index
+     * @return the params
+     */
+    Object[] getParams(int index) {
+        return params[index];
+    }
+
+    /**
+     * Checks whether the message of an event was added as an expectation, may be called from any thread.
+     *
+     * @param event log event
+     * @return true when there is an expectation for the message
+     */
+    boolean isExpected(ILoggingEvent event) {
+        if (event.getMessage() != null && expectedMessages.contains(event.getMessage())) {
+            return true;
+        }
+        for (ValueMatcher matcher : templateMatchers) {
+            if (matcher.matches(event.getMessage())) {
+                return true;
+            }
+        }
+        for (ValueMatcher matcher : formattedMatchers) {
+            if (matcher.matches(event.getFormattedMessage())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true when any entry matches the message with a {@link ValueMatcher}
+     */
+    boolean hasMessageMatchers() {
+        return !templateMatchers.isEmpty() || !formattedMatchers.isEmpty();
+    }
+
+    /**
+     * @param index entry index
+     * @return key to look up the events with the level and message of the entry, 
+     *         only the level when the message is matched by a {@link ValueMatcher}
+     */
+    Key getKey(int index) {
+        return new Key(levels[index], messages[index]);
+    }
+
+    /**
+     * Compares an entry with the event in the same position, checking the message and then the level and params.
+     *
+     * @param index entry index
+     * @param event Log event that happened
+     * @return the mismatch found, null when the event matches the entry
+     */
+    Mismatch compareInOrder(int index, CapturedEvent event) {
+        if (messages[index] != null) {
+            if (!messages[index].equals(event.getMessage())) {
+                return new Mismatch("Message mismatch", messages[index], event.getMessage());
+            }
+        } else {
+            final String actual = formattedMessages[index] ? event.getFormattedMessage() : event.getMessage();
+            if (!messageMatchers[index].matches(actual)) {
+                return new Mismatch("Message mismatch", messageMatchers[index].toString(), actual);
+            }
+        }
+        return compare(index, event);
+    }
+
+    /**
+     * Compares an expected entry with a logging event, checking if the level, and param match.
+     * When the event params were kept formatted, the expected params are compared by their String.
+     * Params of entries matching the formatted message are not compared.
+     *
+     * @param index entry index
+     * @param event Log event that happened
+     * @return the mismatch found, null when the event matches the entry
+     */
+    Mismatch compare(int index, CapturedEvent event) {
+        if (levels[index] != event.getLevel().toInt()) {
+            return new Mismatch("LogLevel mismatch", Level.toLevel(levels[index]).toString(), event.getLevel().toString());
+        }
+        if (formattedMessages[index]) {
+            return null;
+        }
+
+        final Object[] expectedParams = params[index];
+        final Object[] arguments = event.getArgumentArray();
+        int expectedSize = expectedParams == null ? 0 : expectedParams.length;
+        int actualSize = arguments == null ? 0 : arguments.length;
+        if (expectedSize != actualSize) {
+            return new Mismatch("Incorrect number of params", String.valueOf(expectedSize), String.valueOf(actualSize));
+        }
+
+        for (int i = 0; i < expectedSize; i++) {
+            Object expectedParam = expectedParams[i];
+            Object actualParam = arguments[i];
+
+            if (ExpectValue.ANY == expectedParam) {
+                continue;
+            }
+
+            if (expectedParam instanceof ValueMatcher) {
+                if (!((ValueMatcher) expectedParam).matches(actualParam)) {
+                    return new Mismatch("Param [" + i + "] mismatch", expectedParam.toString(), actualParam == null ? "NULL" : actualParam.toString());
+                }
+                continue;
+            }
+
+            if (expectedParam == null && actualParam == null) {
+                continue;
+            } else if (expectedParam == null && actualParam != null) {
+                return new Mismatch("Param [" + i + "] mismatch", "null", actualParam.toString());
+            } else if (!(event.isFormatted() ? expectedParam.toString() : expectedParam).equals(actualParam)) {
+                return new Mismatch("Param [" + i + "] mismatch", expectedParam.toString(), actualParam == null ? "NULL" : actualParam.toString());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Describes an entry, used in failure messages.
+     *
+     * @param index entry index
+     * @return the entry as a String
+     */
+    String toString(int index) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("[level=");
+        builder.append(Level.toLevel(levels[index]));
+        builder.append(", message=");
+        if (messages[index] != null) {
+            builder.append(messages[index]);
+        } else {
+            builder.append(formattedMessages[index] ? "formatted " : "").append(messageMatchers[index]);
+        }
+        builder.append(", params=");
+        builder.append(Arrays.toString(params[index]));
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     *
+     * Difference found comparing an expected entry with a logging event, reported without throwing.
+     *
+     * @author Sparta Team
+     *
+     * History:
+     *    Oct 16, 2026 - Sparta Team
+     *
+     */
+    static final class Mismatch {
+        private final String message;
+        private final String expected;
+        private final String actual;
+
+        /**
+         * Constructor with all values.
+         *
+         * @param message description of the difference
+         * @param expected expected value
+         * @param actual actual value
+         */
+        Mismatch(String message, String expected, String actual) {
+            this.message = message;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        /**
+         * @return failure to be thrown for this difference
+         */
+        ComparisonFailure toFailure() {
+            return new ComparisonFailure(message, expected, actual);
+        }
+    }
+
+    /**
+     * Level and message of a log entry, used to index events and entries.
+     */
+    static final class Key {
+        private final int level;
+        private final String message;
+
+        /**
+         * @param level level as an int
+         * @param message message
+         */
+        Key(int level, String message) {
+            this.level = level;
+            this.message = message;
+        }
+
+        /**
+         * @param event log event
+         * @return key with the level and message of the event
+         */
+        static Key of(CapturedEvent event) {
+            return new Key(event.getLevel().toInt(), event.getMessage());
+        }
+
+        /**
+         * @param event log event
+         * @return key with only the level of the event, used by entries matching the message with a {@link ValueMatcher}
+         */
+        static Key levelOf(CapturedEvent event) {
+            return new Key(event.getLevel().toInt(), null);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * level + Objects.hashCode(message);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return level == other.level && Objects.equals(message, other.message);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.spartatech.testutils.logback;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.github.spartatech.testutils.logback.Expectations.Key;
+
+
+/**
+ *
+ * Expected entries not matched yet by any event, in any order, fed one event at a time.
+ *
+ * Entries are bucketed by level and message, or only by level when the message has a matcher, so each event is only 
+ * compared with the entries it may match. One event satisfies every entry it matches. Keeping this index between checks, 
+ * each event is compared once, however many times the expectations are checked.
+ *
+ * Not thread safe, used by the asserting thread.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *
+ */
+final class PendingExpectations {
+
+    private final Expectations expectations;
+    private final Map<Key, List<Integer>> pending = new HashMap<>();
+    private final BitSet missing = new BitSet();
+    private final int indexed;
+
+    /**
+     * Indexes the entries already added.
+     *
+     * @param expectations expected entries
+     */
+    PendingExpectations(Expectations expectations) {
+        this.expectations = expectations;
+        this.indexed = expectations.size();
+        for (int entry = 0; entry < indexed; entry++) {
+            pending.computeIfAbsent(expectations.getKey(entry), k -> new ArrayList<>()).add(entry);
+            missing.set(entry);
+        }
+    }
+
+    /**
+     * @return false when entries were added after this index was built, then the events already matched must be matched again
+     */
+    boolean isCurrent() {
+        return indexed == expectations.size();
+    }
+
+    /**
+     * Matches an event against the entries not matched yet.
+     *
+     * @param event log event
+     */
+    void match(CapturedEvent event) {
+        matchPending(Key.of(event), event);
+        if (expectations.hasMessageMatchers()) {
+            matchPending(Key.levelOf(event), event);
+        }
+    }
+
+    /**
+     * Matches events against the entries not matched yet.
+     *
+     * @param events log events
+     * @return this index
+     */
+    PendingExpectations matchAll(List<CapturedEvent> events) {
+        for (CapturedEvent event : events) {
+            match(event);
+        }
+        return this;
+    }
+
+    /**
+     * @return index of the first entry not matched by any event, -1 when all were matched
+     */
+    int getFirstMissing() {
+        return missing.nextSetBit(0);
+    }
+
+    private void matchPending(Key key, CapturedEvent event) {
+        final List<Integer> entries = pending.get(key);
+        if (entries == null) {
+            return;
+        }
+        for (Iterator<Integer> it = entries.iterator(); it.hasNext();) {
+            final int entry = it.next();
+            if (expectations.compareInOrder(entry, event) == null) {
+                it.remove();
+                missing.clear(entry);
+            }
+        }
+        if (entries.isEmpty()) {
+            pending.remove(key);
+        }
+    }
+}
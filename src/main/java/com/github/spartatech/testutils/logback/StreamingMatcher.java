@@ -0,0 +1,278 @@
+package com.github.spartatech.testutils.logback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.ComparisonFailure;
+
+import com.github.spartatech.testutils.logback.Expectations.Key;
+import com.github.spartatech.testutils.logback.Expectations.Mismatch;
+
+
+/**
+ *
+ * Event storage of {@link com.github.spartatech.testutils.logback.constant.CaptureMode#STREAMING} mode,
+ * matches each event against the expectations as it is received instead of keeping it.
+ *
+ * Two states are advanced for every event, so the assert can still choose whether extra messages are allowed:
+ * - in order: the event with the lowest sequence not matching the entry at the same index, kept as data
+ *   and turned into a failure only by the asserting thread
+ * - any order: a matched flag per entry, bucketed by level and message, or only by level when the message has a matcher
+ * Logging threads do not lock: they read an immutable view of the expectations and set the flags with CAS.
+ * The view is rebuilt, under a lock, only when expectations were added since the last event.
+ * Only the last events are kept, for diagnostics, memory does not grow with the number of events.
+ *
+ * Expectations must be added before the events are logged.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Matching without a global lock.
+ *
+ */
+final class StreamingMatcher extends EventCapture {
+
+    private final Expectations expectations;
+    private final Ring recent;
+
+    /**
+     * Entries matched by any event, shared by all views.
+     */
+    private final Flags matched = new Flags();
+
+    /**
+     * Event with the lowest sequence not matching the expectations in order.
+     */
+    private final AtomicReference<OrderMismatch> orderMismatch = new AtomicReference<>();
+
+    /**
+     * Expectations indexed for the logging threads, replaced when entries are added.
+     */
+    private volatile View view;
+
+    /**
+     * Entries before this index were all matched, guarded by this.
+     */
+    private int firstMissing;
+
+    /**
+     * Constructor with all values.
+     *
+     * @param expectations expected entries
+     * @param capacity number of recent events kept for diagnostics
+     */
+    StreamingMatcher(Expectations expectations, int capacity) {
+        this.recent = new Ring(capacity);
+        this.expectations = expectations;
+        this.view = new View(expectations.snapshot(), matched);
+    }
+
+    @Override
+    void store(CapturedEvent event) {
+        final View current = view();
+        matchInOrder(current, event);
+        current.match(event);
+        recent.store(event);
+    }
+
+    @Override
+    List<CapturedEvent> getEvents() {
+        return recent.getEvents();
+    }
+
+    @Override
+    List<CapturedEvent> getEventsFrom(long fromSequence) {
+        return recent.getEventsBetween(fromSequence, getNextSequence());
+    }
+
+    @Override
+    boolean keepsAll() {
+        return false;
+    }
+
+    /**
+     * @return number of events received
+     */
+    long getReceived() {
+        return getStoredCount();
+    }
+
+    /**
+     * @return failure of the first event not matching the expectations in order, null when all matched so far
+     */
+    AssertionError getOrderFailure() {
+        final OrderMismatch mismatch = orderMismatch.get();
+        return mismatch == null ? null : mismatch.mismatch.toFailure();
+    }
+
+    /**
+     * @return index of the first entry not matched by any event, -1 when all were matched
+     */
+    synchronized int getFirstMissing() {
+        final int size = view().size;
+        while (firstMissing < size && matched.get(firstMissing)) {
+            firstMissing++;
+        }
+        return firstMissing < size ? firstMissing : -1;
+    }
+
+    /**
+     * @return view with all the expectations added so far
+     */
+    private View view() {
+        final View current = view;
+        if (current.size == expectations.size()) {
+            return current;
+        }
+        synchronized (this) {
+            if (view.size != expectations.size()) {
+                view = new View(expectations.snapshot(), matched);
+            }
+            return view;
+        }
+    }
+
+    private void matchInOrder(View current, CapturedEvent event) {
+        final long sequence = event.getSequence();
+        OrderMismatch first = orderMismatch.get();
+        if (first != null && first.sequence < sequence) {
+            return;
+        }
+        final Mismatch mismatch = sequence >= current.size
+                ? new Mismatch("Invalid number of messages", String.valueOf(current.size), String.valueOf(sequence + 1))
+                : current.expectations.compareInOrder((int) sequence, event);
+        if (mismatch == null) {
+            return;
+        }
+        final OrderMismatch candidate = new OrderMismatch(sequence, mismatch);
+        while (first == null || first.sequence > sequence) {
+            if (orderMismatch.compareAndSet(first, candidate)) {
+                return;
+            }
+            first = orderMismatch.get();
+        }
+    }
+
+    /**
+     * Mismatch found in order, with the sequence of its event.
+     */
+    private static final class OrderMismatch {
+        private final long sequence;
+        private final Mismatch mismatch;
+
+        OrderMismatch(long sequence, Mismatch mismatch) {
+            this.sequence = sequence;
+            this.mismatch = mismatch;
+        }
+    }
+
+    /**
+     * Snapshot of the expectations indexed by key, never modified after construction.
+     */
+    private static final class View {
+        private final Expectations expectations;
+        private final int size;
+        private final Map<Key, Bucket> buckets = new HashMap<>();
+        private final Flags matched;
+
+        View(Expectations expectations, Flags matched) {
+            this.expectations = expectations;
+            this.size = expectations.size();
+            this.matched = matched;
+            matched.ensureCapacity(size);
+            final Map<Key, List<Integer>> entries = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                entries.computeIfAbsent(expectations.getKey(i), k -> new ArrayList<>()).add(i);
+            }
+            entries.forEach((key, list) -> buckets.put(key, new Bucket(list)));
+        }
+
+        void match(CapturedEvent event) {
+            match(buckets.get(Key.of(event)), event);
+            if (expectations.hasMessageMatchers()) {
+                match(buckets.get(Key.levelOf(event)), event);
+            }
+        }
+
+        private void match(Bucket bucket, CapturedEvent event) {
+            if (bucket == null) {
+                return;
+            }
+            final int start = bucket.first.get();
+            int first = start;
+            for (int i = start; i < bucket.entries.length; i++) {
+                final int entry = bucket.entries[i];
+                boolean done = matched.get(entry);
+                if (!done && expectations.compareInOrder(entry, event) == null) {
+                    // one event satisfies every entry it matches, like the assert over kept events
+                    matched.set(entry);
+                    done = true;
+                }
+                if (done && i == first) {
+                    first++;
+                }
+            }
+            if (first > start) {
+                // entries before the cursor are matched and stay matched, any thread may move it forward
+                bucket.first.accumulateAndGet(first, Math::max);
+            }
+        }
+    }
+
+    /**
+     * Entries of one key, in order, with the index of the first one that may not be matched yet.
+     */
+    private static final class Bucket {
+        private final int[] entries;
+        private final AtomicInteger first = new AtomicInteger();
+
+        Bucket(List<Integer> entries) {
+            this.entries = entries.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Growable set of flags, set with CAS. Chunks are never replaced, so views built on fewer entries share them.
+     */
+    private static final class Flags {
+        private static final int CHUNK_BITS = 16;
+        private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+        private volatile AtomicLongArray[] chunks = new AtomicLongArray[0];
+
+        /**
+         * @param size number of flags needed, called before the flags are published to other threads
+         */
+        synchronized void ensureCapacity(int size) {
+            final int needed = (size + CHUNK_MASK) >>> CHUNK_BITS;
+            if (needed > chunks.length) {
+                final AtomicLongArray[] grown = Arrays.copyOf(chunks, needed);
+                for (int i = chunks.length; i < needed; i++) {
+                    grown[i] = new AtomicLongArray(1 << (CHUNK_BITS - 6));
+                }
+                chunks = grown;
+            }
+        }
+
+        boolean get(int index) {
+            return (chunks[index >>> CHUNK_BITS].get((index & CHUNK_MASK) >>> 6) & (1L << index)) != 0;
+        }
+
+        void set(int index) {
+            final AtomicLongArray chunk = chunks[index >>> CHUNK_BITS];
+            final int word = (index & CHUNK_MASK) >>> 6;
+            final long bit = 1L << index;
+            long current;
+            do {
+                current = chunk.get(word);
+            } while ((current & bit) == 0 && !chunk.compareAndSet(word, current, current | bit));
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.github.spartatech.testutils.logback;
 
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
 
 import org.junit.ComparisonFailure;
-import org.slf4j.LoggerFactory;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
 
+import com.github.spartatech.testutils.logback.constant.CaptureMode;
 import com.github.spartatech.testutils.logback.constant.ExpectValue;
 
+import com.github.spartatech.testutils.logback.Expectations.Mismatch;
+import com.github.spartatech.testutils.logback.UnitTestAsserterLogbackAppender.Subscription;
+
 import ch.qos.logback.classic.Level;
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.spi.ILoggingEvent;
 import junit.framework.AssertionFailedError;
 
 
@@ -23,18 +28,73 @@ import junit.framework.AssertionFailedError;
  * - call method to be tested
  * - call {@code UnitTestAsserterLogback.assertLogExpectations()}
  * 
+ * By default every event of the logger is kept, for long running tests {@link #withCaptureMode(CaptureMode, int)} 
+ * keeps only the last events or only the expected ones. {@link CaptureMode#STREAMING} matches the events as they are logged, 
+ * keeping only the expectations not met yet, in this mode the expectations must be added before the method being tested is called.
+ * Messages and params can also be matched by a {@link ValueMatcher}, i.e. a regular expression compiled once.
+ * Events are kept as compact snapshots, {@link #withFormattedArguments()} keeps also the params as Strings.
+ * Events can be logged from any thread, they are asserted in the order they were received.
+ * The spy is attached to the logger itself, so unrelated loggers don't reach it. {@link #withChildLoggers()} spies
+ * also the child loggers, i.e. giving a package name.
+ * 
+ * Asserting does not consume the expectations, so it can be repeated. {@link #assertLogExpectationsSoFar()} checks
+ * only the events received since the previous call, so a long test can assert as it goes.
+ * For code logging from other threads, {@link #awaitExpectations(Duration)} waits until the expectations are met.
+ * 
+ * The asserter must be closed once the test finishes, to detach it from Logback and release the events, 
+ * either by a try-with-resources block or declaring it as a JUnit {@code @Rule}.
+ * 
  * @author Daniel Conde Diehl
  * 
  * History: 
  *    Dec 27, 2016 - Daniel Conde Diehl
+ *    Oct 16, 2026 - Sparta Team - Capture modes.
+ *    Oct 16, 2026 - Sparta Team - Thread safe capture.
+ *    Oct 16, 2026 - Sparta Team - Appender attached to the spied logger, child loggers option.
+ *    Oct 16, 2026 - Sparta Team - Closeable, JUnit rule and shared appenders.
+ *    Oct 16, 2026 - Sparta Team - Events indexed by level and message when ignoring extra messages.
+ *    Oct 16, 2026 - Sparta Team - Expectations in arrays, repeatable and incremental asserts.
+ *    Oct 16, 2026 - Sparta Team - Await expectations.
+ *    Oct 16, 2026 - Sparta Team - Streaming capture mode.
+ *    Oct 16, 2026 - Sparta Team - Formatted params option.
+ *    Oct 16, 2026 - Sparta Team - Message and param matchers.
+ *    Oct 16, 2026 - Sparta Team - Incremental assert stops at events not stored yet.
+ *    Oct 16, 2026 - Sparta Team - Await checks only the events received since the last wake up.
+ *    Oct 16, 2026 - Sparta Team - Message matcher expectations renamed, null messages are not ambiguous.
  *  
  */
-public class UnitTestAsserterLogback  {
+public class UnitTestAsserterLogback implements AutoCloseable, TestRule {
 
-    private LinkedList<LogEntryItem> expectations = new LinkedList<>();
-    private LinkedList<ILoggingEvent> events = new LinkedList<>();
+    /**
+     * Number of events kept in {@link CaptureMode#LAST_N} mode when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
     
-    private UnitTestAsserterLogbackAppender appender;
+    private final Expectations expectations = new Expectations();
+    private EventCapture events = new EventCapture.All();
+    private boolean formatArguments;
+    
+    private Subscription subscription;
+    
+    /**
+     * Number of events already checked by {@link #assertLogExpectationsSoFar()}.
+     */
+    private int verifiedEvents;
+    
+    /**
+     * Sequence of the next event to be checked by {@link #assertLogExpectationsSoFar()}.
+     */
+    private long nextSequence;
+    
+    /**
+     * Expectations not met yet by the events checked while awaiting, kept between wake ups.
+     */
+    private PendingExpectations awaited;
+    
+    /**
+     * Sequence of the next event to be checked while awaiting.
+     */
+    private long awaitedSequence;
     
     
     /**
@@ -42,8 +102,7 @@ public class UnitTestAsserterLogback  {
      * @param logger name as a String
      */
     public UnitTestAsserterLogback(String logger) {
-        appender = new UnitTestAsserterLogbackAppender(logger, events);
-        attachAppenderToLogback();
+        subscription = UnitTestAsserterLogbackAppender.subscribe(logger, events);
     }
     
     /**
@@ -51,8 +110,57 @@ public class UnitTestAsserterLogback  {
      * @param clazz Class that will be used as a logger name
      */
     public UnitTestAsserterLogback(Class<?> clazz) {
-        appender = new UnitTestAsserterLogbackAppender(clazz, events);
-        attachAppenderToLogback();
+        this(clazz.getName());
+    }
+    
+    /**
+     * Changes which events are kept, see {@link CaptureMode}. 
+     * Should be called before the method being tested, events already kept are discarded.
+     * 
+     * @param captureMode events to keep
+     * @return this asserter
+     */
+    public UnitTestAsserterLogback withCaptureMode(CaptureMode captureMode) {
+        return withCaptureMode(captureMode, DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Changes which events are kept, see {@link CaptureMode}. 
+     * Should be called before the method being tested, events already kept are discarded.
+     * 
+     * @param captureMode events to keep
+     * @param capacity number of events kept in {@link CaptureMode#LAST_N} and {@link CaptureMode#STREAMING} modes
+     * @return this asserter
+     */
+    public UnitTestAsserterLogback withCaptureMode(CaptureMode captureMode, int capacity) {
+        events = EventCapture.of(captureMode, capacity, expectations);
+        events.setFormatArguments(formatArguments);
+        subscription.setEventCapture(events);
+        resetVerified();
+        return this;
+    }
+    
+    /**
+     * Spies also the child loggers of the logger, the ones whose names start with the logger name and a dot. 
+     * 
+     * @return this asserter
+     */
+    public UnitTestAsserterLogback withChildLoggers() {
+        subscription.setIncludeChildLoggers(true);
+        return this;
+    }
+    
+    /**
+     * Keeps the params of the events as Strings, so the objects logged are not retained and later changes to them 
+     * don't affect the assert. Expected params are then compared by their String.
+     * Should be called before the method being tested.
+     * 
+     * @return this asserter
+     */
+    public UnitTestAsserterLogback withFormattedArguments() {
+        formatArguments = true;
+        events.setFormatArguments(true);
+        return this;
     }
     
     /**
@@ -60,14 +168,46 @@ public class UnitTestAsserterLogback  {
      * 
      * @param level expected for the log entry
      * @param logMessage message expected for the log entry
-     * @param params list of parameters for the log entry.
+     * @param params list of parameters for the log entry, {@link ExpectValue#ANY} or a {@link ValueMatcher} for values not known upfront.
      */
     public void addExpectation(Level level, String logMessage, Object...params) {
-        expectations.add(new LogEntryItem(level, logMessage, params));
+        expectations.add(level, logMessage, params);
     }
     
     
     
+    /**
+     * Adds a new expectation to the logger, with the message template matched by a {@link ValueMatcher}.
+     * Not an overload of {@link #addExpectation(Level, String, Object...)}, so a null message is not ambiguous.
+     *
+     * @param level expected for the log entry
+     * @param logMessage matcher for the message template of the log entry, i.e. {@code ValueMatcher.regex("Order \\d+ .*")}
+     * @param params list of parameters for the log entry.
+     */
+    public void addMatchingExpectation(Level level, ValueMatcher logMessage, Object...params) {
+        expectations.add(level, logMessage, false, params);
+    }
+    
+    /**
+     * Adds a new expectation to the logger, for the message with the params already replaced. 
+     * 
+     * @param level expected for the log entry
+     * @param formattedMessage message expected after replacing the params
+     */
+    public void addFormattedExpectation(Level level, String formattedMessage) {
+        addFormattedExpectation(level, ValueMatcher.equalTo(formattedMessage));
+    }
+    
+    /**
+     * Adds a new expectation to the logger, for the message with the params already replaced, matched by a {@link ValueMatcher}.
+     * 
+     * @param level expected for the log entry
+     * @param formattedMessage matcher for the message after replacing the params
+     */
+    public void addFormattedExpectation(Level level, ValueMatcher formattedMessage) {
+        expectations.add(level, formattedMessage, true, null);
+    }
+    
     /**
      * Replay expectations to check if all logs happened.
      * Analyzes in order and all logs supposed to be there 
@@ -89,150 +229,218 @@ public class UnitTestAsserterLogback  {
      * @throws AssertionError Throws an assertion error when the asserts fail
      */
 	public void assertLogExpectations(boolean ignoreExtraMessages) throws AssertionError {
+	    if (events instanceof StreamingMatcher) {
+	        assertStreamed((StreamingMatcher) events, ignoreExtraMessages);
+	        return;
+	    }
+	    final List<CapturedEvent> events = this.events.getEvents();
     	if (!ignoreExtraMessages) {
             if (events.size() != expectations.size()) {
                 throw new ComparisonFailure("Invalid number of messages", String.valueOf(expectations.size()), String.valueOf(events.size()));
             }
             
-            for (ILoggingEvent event : events) {
-
-                LogEntryItem entry = expectations.remove();
-
-                if (!entry.getMessage().equals(event.getMessage())) {
-                    throw new ComparisonFailure("Message mismatch", entry.getMessage(), event.getMessage());
-                }
-                
-                compareEntries(event, entry);
+            for (int i = 0; i < events.size(); i++) {
+                assertEntry(events.get(i), i);
             }
     	} else {
-    		for (LogEntryItem entry : expectations) {
-    			boolean foundMatch = false;
-    			for(ILoggingEvent event : events) {
-    				if (entry.getMessage().equals(event.getMessage())) {
-    					try {
-    						compareEntries(event, entry);
-    						foundMatch = true;
-    						break;
-    					} catch (ComparisonFailure e) {
-    						//Error happened not a match
-    					}
-    				}
-    			}
-    			if (!foundMatch) {
-    				throw new AssertionFailedError("Message ["+entry + "] not found");
-    			}
-            }
+    	    final int missing = findMissing(events);
+    	    if (missing >= 0) {
+    	        throw new AssertionFailedError("Message ["+expectations.toString(missing) + "] not found");
+    	    }
     	}
     }
+	
+	/**
+	 * Asserts the state of the expectations matched as the events were logged.
+	 * 
+	 * @param matcher streaming matcher
+	 * @param ignoreExtraMessages whether extra messages are allowed
+	 */
+	private void assertStreamed(StreamingMatcher matcher, boolean ignoreExtraMessages) {
+	    if (!ignoreExtraMessages) {
+	        final AssertionError failure = matcher.getOrderFailure();
+	        if (failure != null) {
+	            throw failure;
+	        }
+	        if (matcher.getReceived() != expectations.size()) {
+	            throw new ComparisonFailure("Invalid number of messages", String.valueOf(expectations.size()), String.valueOf(matcher.getReceived()));
+	        }
+	    } else {
+	        final int missing = matcher.getFirstMissing();
+	        if (missing >= 0) {
+	            throw new AssertionFailedError("Message ["+expectations.toString(missing) + "] not found");
+	        }
+	    }
+	}
+	
+	/**
+	 * Waits until the events logged match the expectations, in order and without extra messages, 
+	 * then asserts them like {@code assertLogExpectations(false)}.
+	 * The wait ends as soon as an event is received, without polling.
+	 * 
+	 * @param timeout max time to wait
+	 * @throws AssertionError Throws an assertion error when the asserts fail or the timeout ends
+	 */
+	public void awaitExpectations(Duration timeout) throws AssertionError {
+	    awaitExpectations(timeout, false);
+	}
+	
+	/**
+	 * Waits until the events logged satisfy the expectations, then asserts them like {@code assertLogExpectations(ignoreExtraMessages)}.
+	 * The wait ends as soon as an event is received, without polling. When the timeout ends, fails with the differences found so far.
+	 * 
+	 * @param timeout max time to wait
+     * @param ignoreExtraMessages false - if any message other than ones expected happens it fail, also check in order, 
+     * 							  true - ensure that messages that were expected happens, allows extra messages and does not check 
+	 * @throws AssertionError Throws an assertion error when the asserts fail or the timeout ends
+	 */
+	public void awaitExpectations(Duration timeout, boolean ignoreExtraMessages) throws AssertionError {
+	    final long deadline = System.nanoTime() + timeout.toNanos();
+	    subscription.setWaiter(Thread.currentThread());
+	    try {
+	        while (!isSatisfied(ignoreExtraMessages)) {
+	            final long remaining = deadline - System.nanoTime();
+	            if (remaining <= 0) {
+	                break;
+	            }
+	            LockSupport.parkNanos(this, remaining);
+	            if (Thread.interrupted()) {
+	                Thread.currentThread().interrupt();
+	                throw new AssertionFailedError("Interrupted while waiting for log expectations");
+	            }
+	        }
+	    } finally {
+	        subscription.setWaiter(null);
+	    }
+	    assertLogExpectations(ignoreExtraMessages);
+	}
+	
+	/**
+	 * Checks whether waiting for more events is pointless, because the expectations are met or can't be met anymore.
+	 * 
+	 * @param ignoreExtraMessages whether extra messages are allowed
+	 * @return true when the expectations should be asserted now
+	 */
+	private boolean isSatisfied(boolean ignoreExtraMessages) {
+	    if (events instanceof StreamingMatcher) {
+	        final StreamingMatcher matcher = (StreamingMatcher) events;
+	        if (!ignoreExtraMessages) {
+	            return matcher.getOrderFailure() != null || matcher.getReceived() >= expectations.size();
+	        }
+	        return matcher.getFirstMissing() < 0;
+	    }
+	    if (!ignoreExtraMessages) {
+	        // once there are as many events as expectations, more events would not fix a mismatch
+	        return events.getStoredCount() >= expectations.size();
+	    }
+	    if (!events.keepsAll()) {
+	        // kept events are bounded, but older ones may have been discarded since the last check
+	        return findMissing(events.getEvents()) < 0;
+	    }
+	    if (awaited == null || !awaited.isCurrent()) {
+	        awaited = new PendingExpectations(expectations);
+	        awaitedSequence = 0;
+	    }
+	    final List<CapturedEvent> received = events.getEventsFrom(awaitedSequence);
+	    if (!received.isEmpty()) {
+	        awaited.matchAll(received);
+	        awaitedSequence = received.get(received.size() - 1).getSequence() + 1;
+	    }
+	    return awaited.getFirstMissing() < 0;
+	}
+	
+	/**
+	 * Looks for an expectation without a matching event, in any order.
+	 * 
+	 * @param events Log events that happened
+	 * @return index of the first expectation not found, -1 when all were found
+	 */
+	private int findMissing(List<CapturedEvent> events) {
+	    return new PendingExpectations(expectations).matchAll(events).getFirstMissing();
+	}
+	
+	/**
+	 * Checks, in order, the events received since the previous call against the next expectations.
+	 * Fails when an event does not match its expectation or there are more events than expectations, 
+	 * expectations not logged yet are not a failure, they are checked by the next calls.
+	 * 
+	 * @throws AssertionError Throws an assertion error when the asserts fail
+	 */
+	public void assertLogExpectationsSoFar() throws AssertionError {
+	    if (events instanceof StreamingMatcher) {
+	        // events were already checked as they arrived
+	        final AssertionError failure = ((StreamingMatcher) events).getOrderFailure();
+	        if (failure != null) {
+	            throw failure;
+	        }
+	        return;
+	    }
+	    // events after a sequence whose event is not stored yet are left for the next call, so none is skipped
+	    final List<CapturedEvent> events = this.events.getEventsFrom(nextSequence);
+	    final int received = verifiedEvents + events.size();
+	    if (received > expectations.size()) {
+	        throw new ComparisonFailure("Invalid number of messages", String.valueOf(expectations.size()), String.valueOf(received));
+	    }
+	    
+	    for (CapturedEvent event : events) {
+	        assertEntry(event, verifiedEvents);
+	        verifiedEvents++;
+	        nextSequence = event.getSequence() + 1;
+	    }
+	}
+    
+	/**
+	 * Checks one event against the expectation in the same position.
+	 * 
+	 * @param event Log event that happened
+	 * @param entry index of the expected entry
+	 */
+	private void assertEntry(CapturedEvent event, int entry) {
+	    final Mismatch mismatch = expectations.compareInOrder(entry, event);
+	    if (mismatch != null) {
+	        throw mismatch.toFailure();
+	    }
+	}
     
-
     /**
-     * Compares an expected entry with a logging event, checking if the level, and param match.
-     * 
-     * @param event Log event that happened
-     * @param entry expected entry
-     */
-    private void compareEntries (ILoggingEvent event, LogEntryItem entry) {
-        if (entry.getLevel() != event.getLevel()) {
-            throw new ComparisonFailure("LogLevel mismatch", entry.getLevel().toString(), event.getLevel().toString());
-        }
-        
-        int expectedSize = entry.getParams() == null ? 0 : entry.getParams().length;
-        int actualSize = event.getArgumentArray() == null ? 0 : event.getArgumentArray().length;
-        if (expectedSize != actualSize) {
-            throw new ComparisonFailure("Incorrect number of params", 
-                                        entry.getParams()== null ? "0" : String.valueOf(entry.getParams().length) , 
-                                        event.getArgumentArray() == null ? "0" : String.valueOf(event.getArgumentArray().length));
-        }
-
-        for (int i = 0; i < entry.getParams().length; i++) {
-            Object expectedParam = entry.getParams()[i];
-            Object actualParam = event.getArgumentArray()[i];
-
-            if (ExpectValue.ANY == expectedParam) {
-                continue;
-            }
-            
-            if (expectedParam == null && actualParam == null) {
-                continue;
-            } else if (expectedParam == null && actualParam != null) {
-                throw new ComparisonFailure("Param [" + i + "] mismatch", "null", actualParam.toString());
-            } else if (!expectedParam.equals(actualParam)) {
-                throw new ComparisonFailure("Param [" + i + "] mismatch", expectedParam == null ? "NULL" : expectedParam.toString(), actualParam == null ? "NULL" : actualParam.toString());
-            }
-        }
+     * Restarts the incremental assert and await, used when the events are discarded.
+     */
+    private void resetVerified() {
+        verifiedEvents = 0;
+        nextSequence = 0;
+        awaited = null;
+        awaitedSequence = 0;
     }
     
     /**
-     * Attached the log to the logback. 
+     * Detaches the asserter from Logback and releases the events kept. 
+     * Events logged after closing are not kept.
      */
-    private void attachAppenderToLogback() {
-        Logger root = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
-        root.addAppender(appender);
+    @Override
+    public void close() {
+        subscription.close();
+        events = new EventCapture.All();
+        resetVerified();
     }
     
-    /** 
-     * 
-     * Internal VO to carry log entries for asserting values.
-     * 
-     * @author Daniel Conde Diehl 
+    /**
+     * Closes the asserter once the test finishes, when declared as a JUnit {@code @Rule}.
      * 
-     * History: 
-     *    Jan 15, 2017 - Daniel Conde Diehl
-     *  
-     */ 
-    class LogEntryItem {
-        private Level level;
-        private String message;
-        private Object[] params;
-        
-        /**
-         * Constructor with all values.
-         * 
-         * @param level log loevel for the message
-         * @param message text message
-         * @param params params used in the log
-         */
-        public LogEntryItem(Level level, String message, Object[] params) {
-            this.level = level;
-            this.message = message;
-            this.params = params;
-        }
-        
-        /**
-         * @return the level
-         */
-        public Level getLevel() {
-            return level;
-        }
-
-        /**
-         * @return the message
-         */
-        public String getMessage() {
-            return message;
-        }
-        /**
-         * @return the params
-         */
-        public Object[] getParams() {
-            return params;
-        }
-
-		/* (non-Javadoc)
-		 * @see java.lang.Object#toString()
-		 */
-		@Override
-		public String toString() {
-			StringBuilder builder = new StringBuilder();
-			builder.append("[level=");
-			builder.append(level);
-			builder.append(", message=");
-			builder.append(message);
-			builder.append(", params=");
-			builder.append(Arrays.toString(params));
-			builder.append("]");
-			return builder.toString();
-		}
+     * @param base test to be run
+     * @param description description of the test
+     * @return test that closes this asserter when finished
+     */
+    @Override
+    public Statement apply(final Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                try {
+                    base.evaluate();
+                } finally {
+                    close();
+                }
+            }
+        };
     }
 };
@@ -1,8 +1,16 @@
 package com.github.spartatech.testutils.logback;
 
-import java.util.LinkedList;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
 
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.Context;
@@ -15,48 +23,211 @@ import ch.qos.logback.core.status.Status;
 /** 
  * 
  * Logback Appender that receives log calls and adds to event list. Used to tap into the logs and asserts then.
+ * Attached to the logger being spied, so it only receives the events of that logger and its child loggers.
+ * 
+ * There is only one appender attached for each logger, shared by all the asserters spying it through a {@link Subscription}.
+ * Subscriptions are held by weak references, an asserter that is never closed stops receiving events once collected,
+ * the appender is detached when the last subscription is closed.
  * 
  * @author Daniel Conde Diehl
  * 
  * History: 
  *    Dec 27, 2016 - Daniel Conde Diehl
+ *    Oct 16, 2026 - Sparta Team - Events stored according to the capture mode.
+ *    Oct 16, 2026 - Sparta Team - Safe to be called from several threads.
+ *    Oct 16, 2026 - Sparta Team - Option to accept child loggers.
+ *    Oct 16, 2026 - Sparta Team - Shared appender per logger, with subscriptions.
+ *    Oct 16, 2026 - Sparta Team - Wakes the thread awaiting events.
+ *    Oct 16, 2026 - Sparta Team - Every logger is a child of the root logger.
  *  
  */
 class UnitTestAsserterLogbackAppender implements Appender<ILoggingEvent> {
 
     /**
-     * Link for the Events where we are going to write.
+     * Appenders attached to Logback, by logger name.
+     */
+    private static final Map<String, UnitTestAsserterLogbackAppender> APPENDERS = new HashMap<>();
+    
+    /**
+     * Subscriptions receiving the events.
      */
-    private LinkedList<ILoggingEvent> events;
+    private final List<WeakReference<Subscription>> subscriptions = new CopyOnWriteArrayList<>();
     
     /**
      * Log being spied
      */
     private String logger;
     
+    /**
+     * Prefix of the child loggers names, empty for the root logger, whose children are all the loggers
+     */
+    private String childPrefix;
+    
     /**
      * Constructor receiving the logger as a String.
      * @param logger name as a String
-     * @param eventList list of events to write to
      */
-    public UnitTestAsserterLogbackAppender(String logger, LinkedList<ILoggingEvent> eventList) {
+    private UnitTestAsserterLogbackAppender(String logger) {
         this.logger = logger;
-        events = eventList;
+        this.childPrefix = Logger.ROOT_LOGGER_NAME.equalsIgnoreCase(logger) ? "" : logger + ".";
+    }
+    
+    /**
+     * Subscribes to the events of a logger, attaching the appender of the logger when needed.
+     * 
+     * @param logger name of the logger
+     * @param eventCapture storage of events to write to
+     * @return subscription, must be closed to stop receiving events
+     */
+    static Subscription subscribe(String logger, EventCapture eventCapture) {
+        final Subscription subscription = new Subscription(eventCapture);
+        synchronized (APPENDERS) {
+            releaseUnused();
+            UnitTestAsserterLogbackAppender appender = APPENDERS.get(logger);
+            if (appender == null) {
+                appender = new UnitTestAsserterLogbackAppender(logger);
+                APPENDERS.put(logger, appender);
+            }
+            final Logger target = (Logger) LoggerFactory.getLogger(logger);
+            if (!target.isAttached(appender)) {
+                // first subscription, or Logback was reset
+                target.addAppender(appender);
+            }
+            appender.subscriptions.add(new WeakReference<>(subscription));
+            subscription.appender = appender;
+        }
+        return subscription;
     }
     
     /**
-     * Constructor receiving the logger as a class.
-     * @param clazz Class that will be used as a logger name
-     * @param eventList list of events to write to
+     * Removes a subscription, detaching the appender when it was the last one.
+     * 
+     * @param subscription subscription to be removed
      */
-    public UnitTestAsserterLogbackAppender(Class<?> clazz, LinkedList<ILoggingEvent> eventList) {
-        this(clazz.getName(), eventList);
+    static void unsubscribe(Subscription subscription) {
+        synchronized (APPENDERS) {
+            final UnitTestAsserterLogbackAppender appender = subscription.appender;
+            if (appender == null) {
+                return;
+            }
+            subscription.appender = null;
+            appender.subscriptions.removeIf(ref -> ref.get() == null || ref.get() == subscription);
+            if (appender.subscriptions.isEmpty()) {
+                appender.detach();
+            }
+        }
+    }
+    
+    /**
+     * Detaches the appenders whose asserters were collected without being closed.
+     */
+    private static void releaseUnused() {
+        for (Iterator<UnitTestAsserterLogbackAppender> it = APPENDERS.values().iterator(); it.hasNext();) {
+            final UnitTestAsserterLogbackAppender appender = it.next();
+            appender.subscriptions.removeIf(ref -> ref.get() == null);
+            if (appender.subscriptions.isEmpty()) {
+                ((Logger) LoggerFactory.getLogger(appender.logger)).detachAppender(appender);
+                it.remove();
+            }
+        }
+    }
+    
+    /**
+     * Detaches this appender from Logback.
+     */
+    private void detach() {
+        ((Logger) LoggerFactory.getLogger(logger)).detachAppender(this);
+        APPENDERS.remove(logger);
     }
     
     @Override
     public void doAppend(ILoggingEvent event) throws LogbackException {
-        if (!event.getLoggerName().equals(logger)) return;
-        events.add(event);
+        final String name = event.getLoggerName();
+        final boolean exact = name.equals(logger);
+        if (!exact && !name.startsWith(childPrefix)) return;
+        
+        boolean collected = false;
+        for (WeakReference<Subscription> ref : subscriptions) {
+            final Subscription subscription = ref.get();
+            if (subscription == null) {
+                collected = true;
+            } else if (exact || subscription.includeChildLoggers) {
+                subscription.events.add(event);
+                final Thread waiter = subscription.waiter;
+                if (waiter != null) {
+                    LockSupport.unpark(waiter);
+                }
+            }
+        }
+        if (collected) {
+            subscriptions.removeIf(ref -> ref.get() == null);
+        }
+    }
+    
+    /** 
+     * 
+     * Subscription of one asserter to the events of a logger.
+     * 
+     * @author Sparta Team
+     * 
+     * History: 
+     *    Oct 16, 2026 - Sparta Team
+     *  
+     */
+    static final class Subscription implements AutoCloseable {
+        
+        /**
+         * Storage for the Events where we are going to write.
+         */
+        private volatile EventCapture events;
+        
+        /**
+         * Whether events of child loggers are kept
+         */
+        private volatile boolean includeChildLoggers;
+        
+        /**
+         * Thread waiting for new events, null when none.
+         */
+        private volatile Thread waiter;
+        
+        /**
+         * Appender delivering the events, null once closed. Guarded by the appenders registry.
+         */
+        private UnitTestAsserterLogbackAppender appender;
+        
+        private Subscription(EventCapture events) {
+            this.events = events;
+        }
+        
+        /**
+         * Replaces the storage of events, events already stored are discarded.
+         * @param eventCapture storage of events to write to
+         */
+        void setEventCapture(EventCapture eventCapture) {
+            events = eventCapture;
+        }
+        
+        /**
+         * Keeps also the events of the child loggers (loggers whose names start with the logger name and a dot).
+         * @param includeChildLoggers true to keep events of child loggers
+         */
+        void setIncludeChildLoggers(boolean includeChildLoggers) {
+            this.includeChildLoggers = includeChildLoggers;
+        }
+        
+        /**
+         * Sets the thread to be unparked when an event is received.
+         * @param waiter thread waiting for events, null to stop notifying
+         */
+        void setWaiter(Thread waiter) {
+            this.waiter = waiter;
+        }
+        
+        @Override
+        public void close() {
+            unsubscribe(this);
+        }
     }
        
     @Override
@@ -0,0 +1,141 @@
+package com.github.spartatech.testutils.logback;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+
+/**
+ *
+ * Matcher for expected values of {@link UnitTestAsserterLogback}, used as an expected param or as the expected message.
+ *
+ * Regular expressions are compiled once, when the matcher is created, and their leading literal text is extracted
+ * so most values that don't match are rejected by a {@code startsWith} check, without running the expression.
+ * Values are compared by their String, except by {@link #matching(Predicate)} that receives the value itself.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Literal prefix does not split surrogate pairs.
+ *
+ */
+public final class ValueMatcher {
+
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+    private static final String QUANTIFIERS = "?*+{";
+
+    private final String description;
+    private final String prefix;
+    private final String exact;
+    private final Pattern pattern;
+    private final Predicate<Object> predicate;
+
+    private ValueMatcher(String description, String prefix, String exact, Pattern pattern, Predicate<Object> predicate) {
+        this.description = description;
+        this.prefix = prefix;
+        this.exact = exact;
+        this.pattern = pattern;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Matches values whose String is equal to the text.
+     *
+     * @param text expected text
+     * @return matcher
+     */
+    public static ValueMatcher equalTo(String text) {
+        Objects.requireNonNull(text, "text");
+        return new ValueMatcher(text, text, text, null, null);
+    }
+
+    /**
+     * Matches values whose String starts with the prefix.
+     *
+     * @param prefix expected beginning of the value
+     * @return matcher
+     */
+    public static ValueMatcher prefix(String prefix) {
+        Objects.requireNonNull(prefix, "prefix");
+        return new ValueMatcher("prefix[" + prefix + "]", prefix, null, null, null);
+    }
+
+    /**
+     * Matches values whose whole String matches the regular expression.
+     *
+     * @param regex regular expression
+     * @return matcher
+     * @throws java.util.regex.PatternSyntaxException when the expression is invalid
+     */
+    public static ValueMatcher regex(String regex) {
+        final Pattern pattern = Pattern.compile(regex);
+        return new ValueMatcher("regex[" + regex + "]", literalPrefix(regex), null, pattern, null);
+    }
+
+    /**
+     * Matches values accepted by the predicate, the value itself is given, null included.
+     *
+     * @param predicate condition for the value
+     * @return matcher
+     */
+    public static ValueMatcher matching(Predicate<Object> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        return new ValueMatcher("matching[" + predicate + "]", "", null, null, predicate);
+    }
+
+    /**
+     * Checks whether a value matches.
+     *
+     * @param value value logged
+     * @return true when the value matches, null values match only predicates accepting them
+     */
+    public boolean matches(Object value) {
+        if (predicate != null) {
+            return predicate.test(value);
+        }
+        if (value == null) {
+            return false;
+        }
+        final String text = value.toString();
+        if (!text.startsWith(prefix)) {
+            return false;
+        }
+        if (exact != null) {
+            // the prefix is the exact text
+            return text.length() == exact.length();
+        }
+        return pattern == null || pattern.matcher(text).matches();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Extracts the literal text every match of the expression starts with.
+     *
+     * @param regex regular expression
+     * @return the literal beginning, empty when there is none
+     */
+    private static String literalPrefix(String regex) {
+        if (regex.indexOf('|') >= 0) {
+            // alternatives may start differently
+            return "";
+        }
+        int end = 0;
+        while (end < regex.length() && REGEX_META_CHARS.indexOf(regex.charAt(end)) < 0) {
+            end++;
+        }
+        if (end < regex.length() && QUANTIFIERS.indexOf(regex.charAt(end)) >= 0 && end > 0) {
+            // the quantifier applies to the last literal char
+            end--;
+        }
+        if (end > 0 && Character.isHighSurrogate(regex.charAt(end - 1))) {
+            // the quantifier applies to the whole code point, not only its low surrogate
+            end--;
+        }
+        return regex.substring(0, end);
+    }
+}
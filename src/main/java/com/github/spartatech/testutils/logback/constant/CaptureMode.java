@@ -0,0 +1,19 @@
+package com.github.spartatech.testutils.logback.constant;
+
+/** 
+ * 
+ * Which log events are kept by UnitTestAsserterLogback to be asserted.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Streaming mode.
+ *  
+ */
+public enum CaptureMode {
+    ALL, //Keeps every event of the logger
+    LAST_N, //Keeps only the last events, in a fixed size buffer
+    EXPECTED_ONLY, //Keeps only events with the message of an expectation
+    STREAMING, //Matches events against the expectations as they are logged, keeps only the last events
+}
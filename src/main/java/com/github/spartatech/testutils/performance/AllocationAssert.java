@@ -0,0 +1,141 @@
+package com.github.spartatech.testutils.performance;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Assume;
+
+import com.github.spartatech.testutils.exception.Processable;
+
+/**
+ * Assertions for the memory allocated by a block of code.
+ * 
+ * The block is run for some warmup iterations, so the JIT compiles it and removes the allocations it can, 
+ * then the bytes allocated by the current thread during the measured iterations are read from 
+ * {@code com.sun.management.ThreadMXBean}. The bytes allocated by the harness itself, measured running an empty block 
+ * the same way, are subtracted.
+ * 
+ * On JVMs without per-thread allocation counters the assertions are skipped, through {@link Assume}.
+ * 
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Budget does not overflow for large byte counts.
+ */
+public abstract class AllocationAssert {
+
+    /**
+     * Warmup iterations when none are given.
+     */
+    public static final int DEFAULT_WARMUP_ITERATIONS = 10_000;
+
+    /**
+     * Measured iterations when none are given.
+     */
+    public static final int DEFAULT_ITERATIONS = 1_000;
+
+    private static final Processable EMPTY = () -> { };
+
+    /**
+     * Asserts that the block allocates at most some bytes per invocation, on average, 
+     * with {@value #DEFAULT_WARMUP_ITERATIONS} warmup and {@value #DEFAULT_ITERATIONS} measured iterations.
+     * 
+     * @param bytes max bytes allocated per invocation, 0 for allocation free code
+     * @param processable the execution to be measured
+     * @throws Exception when the execution throws one
+     * @throws AssertionError when the block allocates more than the budget
+     */
+    public static void assertAllocatesAtMost(long bytes, Processable processable) throws Exception {
+        assertAllocatesAtMost(bytes, DEFAULT_WARMUP_ITERATIONS, DEFAULT_ITERATIONS, processable);
+    }
+
+    /**
+     * Asserts that the block allocates at most some bytes per invocation, on average.
+     * 
+     * @param bytes max bytes allocated per invocation, 0 for allocation free code
+     * @param warmupIterations iterations run before measuring
+     * @param iterations iterations measured
+     * @param processable the execution to be measured
+     * @throws Exception when the execution throws one
+     * @throws AssertionError when the block allocates more than the budget
+     */
+    public static void assertAllocatesAtMost(long bytes, int warmupIterations, int iterations, Processable processable) throws Exception {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Bytes must not be negative");
+        }
+        final long total = measureAllocatedBytes(processable, warmupIterations, iterations);
+        // saturated, a budget over Long.MAX_VALUE can't be exceeded
+        final long budget = bytes > Long.MAX_VALUE / iterations ? Long.MAX_VALUE : bytes * iterations;
+        if (total > budget) {
+            Assert.fail(String.format(Locale.ROOT, "Allocated %.1f bytes per invocation, expected at most %d (total %d bytes in %d invocations)", 
+                    (double) total / iterations, bytes, total, iterations));
+        }
+    }
+
+    /**
+     * Asserts that the block does not allocate, after warmup.
+     * 
+     * @param processable the execution to be measured
+     * @throws Exception when the execution throws one
+     * @throws AssertionError when the block allocates
+     */
+    public static void assertAllocationFree(Processable processable) throws Exception {
+        assertAllocatesAtMost(0, processable);
+    }
+
+    /**
+     * Measures the bytes allocated by the block, without the bytes allocated by the harness.
+     * 
+     * @param processable the execution to be measured
+     * @param warmupIterations iterations run before measuring
+     * @param iterations iterations measured
+     * @return total bytes allocated by the measured iterations
+     * @throws Exception when the execution throws one
+     */
+    public static long measureAllocatedBytes(Processable processable, int warmupIterations, int iterations) throws Exception {
+        if (warmupIterations < 0 || iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+        final com.sun.management.ThreadMXBean threads = allocationCounter();
+        final long threadId = Thread.currentThread().getId();
+
+        run(EMPTY, warmupIterations);
+        run(processable, warmupIterations);
+
+        final long baseline = allocatedBytes(threads, threadId, EMPTY, iterations);
+        final long measured = allocatedBytes(threads, threadId, processable, iterations);
+        return Math.max(0, measured - baseline);
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads, long threadId, Processable processable, int iterations) throws Exception {
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        run(processable, iterations);
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static void run(Processable processable, int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            processable.process();
+        }
+    }
+
+    /**
+     * Gets the per-thread allocation counter, skipping the test when the JVM has none.
+     * 
+     * @return thread bean with allocation counters enabled
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("Per-thread allocation counters are not available in this JVM", 
+                bean instanceof com.sun.management.ThreadMXBean 
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
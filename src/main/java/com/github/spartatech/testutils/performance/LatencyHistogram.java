@@ -0,0 +1,166 @@
+package com.github.spartatech.testutils.performance;
+
+import java.util.Locale;
+
+/** 
+ * 
+ * Histogram of latencies in nanoseconds, recorded without allocation.
+ * 
+ * Values up to 255ns are counted exactly, larger values are counted in log-linear buckets, 128 for each power of 2, 
+ * so percentiles have a relative error under 1%. Percentiles report the highest value of their bucket, never less 
+ * than the recorded value, and never more than the max recorded.
+ * 
+ * Not thread safe, each thread must record into its own histogram, they can be merged with {@link #add(LatencyHistogram)}.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *  
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_SHIFT = 63 - (SUB_BUCKET_BITS - 1);
+
+    private final long[] counts = new long[SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Records a latency.
+     * 
+     * @param nanos latency in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Adds the latencies recorded by another histogram.
+     * 
+     * @param other histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @return number of latencies recorded
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the lowest latency recorded, 0 when empty
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * @return the highest latency recorded, 0 when empty
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Finds the latency of a percentile.
+     * 
+     * @param percentile percentile
+     * @return latency in nanoseconds, 0 when empty
+     */
+    public long getValue(Percentile percentile) {
+        return getValueAtPercentile(percentile.getValue());
+    }
+
+    /**
+     * Finds the latency of a percentile.
+     * 
+     * @param percentile percentile, from 0 to 100
+     * @return latency in nanoseconds, 0 when empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        if (percentile == 100) {
+            return max;
+        }
+        final long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "p50=%s, p90=%s, p99=%s, max=%s, count=%d", 
+                format(getValue(Percentile.P50)), format(getValue(Percentile.P90)), 
+                format(getValue(Percentile.P99)), format(max), count);
+    }
+
+    /**
+     * Formats nanoseconds in the most readable unit.
+     * 
+     * @param nanos duration in nanoseconds
+     * @return formatted duration, i.e. 1.250ms
+     */
+    static String format(long nanos) {
+        if (nanos < 1_000L) {
+            return nanos + "ns";
+        } else if (nanos < 1_000_000L) {
+            return String.format(Locale.ROOT, "%.3fus", nanos / 1e3);
+        } else if (nanos < 1_000_000_000L) {
+            return String.format(Locale.ROOT, "%.3fms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.3fs", nanos / 1e9);
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // keeps the highest SUB_BUCKET_BITS bits of the value
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        final int subBucket = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (subBucket - HALF_SUB_BUCKETS);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        final long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        final long next = (subBucket + 1) << shift;
+        // the last buckets end past Long.MAX_VALUE
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.spartatech.testutils.performance;
+
+/** 
+ * 
+ * Percentiles of the latency asserted by {@link PerformanceAssert}.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *  
+ */
+public enum Percentile {
+    P50(50.0), //Median
+    P90(90.0),
+    P99(99.0),
+    P999(99.9),
+    MAX(100.0), //Slowest iteration
+    ;
+
+    private final double value;
+
+    private Percentile(double value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the percentile, from 0 to 100
+     */
+    public double getValue() {
+        return value;
+    }
+}
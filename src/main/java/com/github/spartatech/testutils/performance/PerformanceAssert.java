@@ -0,0 +1,159 @@
+package com.github.spartatech.testutils.performance;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.junit.Assert;
+
+import com.github.spartatech.testutils.exception.ExceptionAssert;
+import com.github.spartatech.testutils.exception.Processable;
+
+/**
+ * Assertions for the latency of a block of code.
+ * 
+ * The block is run for some warmup iterations, so the JIT compiles it, then for the measured iterations, 
+ * each one timed with {@link System#nanoTime()} and recorded in a {@link LatencyHistogram}. 
+ * The percentile asserted is then compared with the budget.
+ * 
+ * Latencies include the noise of the machine running the tests, budgets should leave some room for it.
+ * 
+ * Results of a {@link StressRunner} are asserted with {@link #assertThroughput(StressResult, double)}, 
+ * {@link #assertNoFailures(StressResult)} and {@link #assertFailures(Throwable, StressResult)}.
+ * 
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Stress asserts.
+ */
+public abstract class PerformanceAssert {
+
+    /**
+     * Warmup iterations when none are given.
+     */
+    public static final int DEFAULT_WARMUP_ITERATIONS = 1_000;
+
+    /**
+     * Measured iterations when none are given.
+     */
+    public static final int DEFAULT_ITERATIONS = 1_000;
+
+    /**
+     * Asserts that a percentile of the latency of the block is within the budget, 
+     * with {@value #DEFAULT_WARMUP_ITERATIONS} warmup and {@value #DEFAULT_ITERATIONS} measured iterations.
+     * 
+     * @param processable the execution to be measured
+     * @param percentile percentile asserted, i.e. {@link Percentile#P99}
+     * @param budget max latency allowed for the percentile
+     * @return the latencies measured, so other percentiles can be asserted with {@link #assertLatency(LatencyHistogram, Percentile, Duration)}
+     * @throws Exception when the execution throws one
+     * @throws AssertionError when the percentile is over the budget
+     */
+    public static LatencyHistogram assertLatency(Processable processable, Percentile percentile, Duration budget) throws Exception {
+        return assertLatency(processable, DEFAULT_WARMUP_ITERATIONS, DEFAULT_ITERATIONS, percentile, budget);
+    }
+
+    /**
+     * Asserts that a percentile of the latency of the block is within the budget.
+     * 
+     * @param processable the execution to be measured
+     * @param warmupIterations iterations run before measuring
+     * @param iterations iterations measured
+     * @param percentile percentile asserted, i.e. {@link Percentile#P99}
+     * @param budget max latency allowed for the percentile
+     * @return the latencies measured, so other percentiles can be asserted with {@link #assertLatency(LatencyHistogram, Percentile, Duration)}
+     * @throws Exception when the execution throws one
+     * @throws AssertionError when the percentile is over the budget
+     */
+    public static LatencyHistogram assertLatency(Processable processable, int warmupIterations, int iterations, Percentile percentile, Duration budget) throws Exception {
+        final LatencyHistogram histogram = measure(processable, warmupIterations, iterations);
+        assertLatency(histogram, percentile, budget);
+        return histogram;
+    }
+
+    /**
+     * Asserts that a percentile of latencies already measured is within the budget.
+     * 
+     * @param histogram latencies measured
+     * @param percentile percentile asserted, i.e. {@link Percentile#P99}
+     * @param budget max latency allowed for the percentile
+     * @throws AssertionError when the percentile is over the budget
+     */
+    public static void assertLatency(LatencyHistogram histogram, Percentile percentile, Duration budget) throws AssertionError {
+        final long budgetNanos = budget.toNanos();
+        final long actual = histogram.getValue(percentile);
+        if (actual > budgetNanos) {
+            Assert.fail(percentile + " latency over budget, expected at most " + LatencyHistogram.format(budgetNanos) 
+                    + " but was " + LatencyHistogram.format(actual) + " (" + histogram + ")");
+        }
+    }
+
+    /**
+     * Asserts that a stress run reached a throughput.
+     * 
+     * @param result result of the run
+     * @param minOpsPerSecond min operations per second, of all threads
+     * @throws AssertionError when the throughput is under the budget
+     */
+    public static void assertThroughput(StressResult result, double minOpsPerSecond) throws AssertionError {
+        if (result.getOpsPerSecond() < minOpsPerSecond) {
+            Assert.fail(String.format(Locale.ROOT, "Throughput under budget, expected at least %.1f ops/s but was %s", minOpsPerSecond, result));
+        }
+    }
+
+    /**
+     * Asserts that no operation of a stress run threw an exception.
+     * 
+     * @param result result of the run
+     * @throws AssertionError when any operation failed, with the first failure as the cause
+     */
+    public static void assertNoFailures(StressResult result) throws AssertionError {
+        if (result.getFailureCount() > 0) {
+            final AssertionError error = new AssertionError("Failures under load: " + result);
+            error.initCause(result.getFailures().get(0));
+            throw error;
+        }
+    }
+
+    /**
+     * Asserts that a stress run had failures, all of them with the class and message of the expected exception, 
+     * as in {@link ExceptionAssert#assertExceptionMessage(Throwable, boolean, Processable)}.
+     * 
+     * @param expected Expected exception with the message
+     * @param result result of the run
+     * @throws AssertionError when no operation failed or any failure is different from the expected one
+     */
+    public static void assertFailures(Throwable expected, StressResult result) throws AssertionError {
+        if (result.getFailureCount() == 0) {
+            Assert.fail("Expected Exception under load: " + expected.getClass());
+        }
+        for (Throwable actual : result.getFailures()) {
+            ExceptionAssert.assertSameException(expected, actual);
+        }
+    }
+
+    /**
+     * Measures the latency of a block.
+     * 
+     * @param processable the execution to be measured
+     * @param warmupIterations iterations run before measuring
+     * @param iterations iterations measured
+     * @return the latencies measured
+     * @throws Exception when the execution throws one
+     */
+    public static LatencyHistogram measure(Processable processable, int warmupIterations, int iterations) throws Exception {
+        if (warmupIterations < 0 || iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+        for (int i = 0; i < warmupIterations; i++) {
+            processable.process();
+        }
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+            processable.process();
+            histogram.record(System.nanoTime() - start);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.spartatech.testutils.performance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throughput, latencies and failures of a {@link StressRunner} run.
+ * 
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ */
+public final class StressResult {
+
+    private final int threads;
+    private final long elapsedNanos;
+    private final List<LatencyHistogram> threadLatencies;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final Map<String, Throwable> failures = new LinkedHashMap<>();
+    private final Map<String, Integer> failureCounts = new LinkedHashMap<>();
+    private long failureCount;
+
+    /**
+     * Merges the results of the threads.
+     * 
+     * @param threads number of threads
+     * @param elapsedNanos time from the start barrier until the last thread finished
+     * @param workers workers of the threads, already finished
+     */
+    StressResult(int threads, long elapsedNanos, List<StressRunner.Worker> workers) {
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        final List<LatencyHistogram> perThread = new ArrayList<>(workers.size());
+        for (StressRunner.Worker worker : workers) {
+            perThread.add(worker.getLatencies());
+            latencies.add(worker.getLatencies());
+            worker.getFailures().forEach(failures::putIfAbsent);
+            for (Map.Entry<String, Integer> entry : worker.getFailureCounts().entrySet()) {
+                failureCounts.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                failureCount += entry.getValue();
+            }
+        }
+        this.threadLatencies = Collections.unmodifiableList(perThread);
+    }
+
+    /**
+     * @return number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return measured operations of all threads, failed ones included
+     */
+    public long getOperations() {
+        return latencies.getCount();
+    }
+
+    /**
+     * @return time from the start barrier until the last thread finished, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return measured operations per second, of all threads
+     */
+    public double getOpsPerSecond() {
+        return elapsedNanos == 0 ? Double.POSITIVE_INFINITY : getOperations() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return latencies of all threads
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return latencies of each thread, in the order the threads were started
+     */
+    public List<LatencyHistogram> getThreadLatencies() {
+        return threadLatencies;
+    }
+
+    /**
+     * @return number of measured operations that threw an exception
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return first failure of each class and message, in the order they were found
+     */
+    public List<Throwable> getFailures() {
+        return new ArrayList<>(failures.values());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "%.1f ops/s, %d ops in %s on %d threads, %d failures (%s)", 
+                getOpsPerSecond(), getOperations(), LatencyHistogram.format(elapsedNanos), threads, failureCount, latencies));
+        for (Map.Entry<String, Integer> entry : failureCounts.entrySet()) {
+            builder.append(System.lineSeparator()).append("  ").append(entry.getKey()).append(" x").append(entry.getValue());
+        }
+        return builder.toString();
+    }
+}
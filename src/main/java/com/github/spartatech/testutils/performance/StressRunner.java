@@ -0,0 +1,264 @@
+package com.github.spartatech.testutils.performance;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assume;
+
+import com.github.spartatech.testutils.exception.Processable;
+
+/**
+ * Runs a block of code concurrently, to measure throughput and check thread safety under contention.
+ * 
+ * Each thread runs its warmup iterations, then waits on a start barrier, so all threads run the measured iterations 
+ * at the same time. Each measured iteration is timed into a {@link LatencyHistogram} of its thread. 
+ * Exceptions and errors thrown by the block do not stop the threads, they are counted and reported in the {@link StressResult}, 
+ * to be asserted with {@link PerformanceAssert#assertNoFailures(StressResult)} or 
+ * {@link PerformanceAssert#assertFailures(Throwable, StressResult)}.
+ * 
+ * Virtual threads are used on JVMs that have them, on other JVMs runs with virtual threads are skipped, through {@link Assume}.
+ * 
+ * <pre>
+ * final StressResult result = StressRunner.platformThreads(8).iterations(10_000).run(() -&gt; cache.get(key));
+ * PerformanceAssert.assertNoFailures(result);
+ * PerformanceAssert.assertThroughput(result, 100_000);
+ * </pre>
+ * 
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Errors reported, virtual threads probed, threads released when the start fails.
+ */
+public final class StressRunner {
+
+    /**
+     * Warmup iterations of each thread when none are given.
+     */
+    public static final int DEFAULT_WARMUP_ITERATIONS = 1_000;
+
+    /**
+     * Measured iterations of each thread when none are given.
+     */
+    public static final int DEFAULT_ITERATIONS = 1_000;
+
+    private static final Method OF_VIRTUAL = lookup(Thread.class, "ofVirtual");
+    private static final Method UNSTARTED = lookupUnstarted();
+
+    private final int threads;
+    private final boolean virtual;
+    private int warmupIterations = DEFAULT_WARMUP_ITERATIONS;
+    private int iterations = DEFAULT_ITERATIONS;
+
+    private StressRunner(int threads, boolean virtual) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        this.threads = threads;
+        this.virtual = virtual;
+    }
+
+    /**
+     * Creates a runner with platform threads.
+     * 
+     * @param threads number of threads
+     * @return runner
+     */
+    public static StressRunner platformThreads(int threads) {
+        return new StressRunner(threads, false);
+    }
+
+    /**
+     * Creates a runner with virtual threads.
+     * 
+     * @param threads number of threads
+     * @return runner
+     */
+    public static StressRunner virtualThreads(int threads) {
+        return new StressRunner(threads, true);
+    }
+
+    /**
+     * @return true when the JVM has virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return UNSTARTED != null;
+    }
+
+    /**
+     * @param warmupIterations iterations run by each thread before the start barrier
+     * @return this runner
+     */
+    public StressRunner warmup(int warmupIterations) {
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+        this.warmupIterations = warmupIterations;
+        return this;
+    }
+
+    /**
+     * @param iterations iterations measured in each thread
+     * @return this runner
+     */
+    public StressRunner iterations(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Runs the block in all threads and waits for them to finish.
+     * 
+     * @param processable the execution to be stressed, must be safe to call from many threads
+     * @return throughput, latencies and failures of the run
+     * @throws InterruptedException when interrupted while waiting for the threads, the threads are interrupted too
+     */
+    public StressResult run(Processable processable) throws InterruptedException {
+        if (virtual) {
+            Assume.assumeTrue("Virtual threads are not available in this JVM", isVirtualThreadSupported());
+        }
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Worker> workers = new ArrayList<>(threads);
+        final List<Thread> started = new ArrayList<>(threads);
+        boolean finished = false;
+        try {
+            for (int i = 0; i < threads; i++) {
+                final Worker worker = new Worker(processable, ready, start);
+                final Thread thread = newThread(worker, i);
+                workers.add(worker);
+                thread.start();
+                started.add(thread);
+            }
+            ready.await();
+            final long startNanos = System.nanoTime();
+            start.countDown();
+            for (Thread thread : started) {
+                thread.join();
+            }
+            finished = true;
+            return new StressResult(threads, System.nanoTime() - startNanos, workers);
+        } finally {
+            if (!finished) {
+                // interrupted, or a thread could not be created, the started ones must not wait forever
+                for (Thread thread : started) {
+                    thread.interrupt();
+                }
+                start.countDown();
+            }
+        }
+    }
+
+    private Thread newThread(Runnable runnable, int index) {
+        if (virtual) {
+            try {
+                return (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(null), runnable);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create virtual thread", e);
+            }
+        }
+        final Thread thread = new Thread(runnable, "stress-runner-" + index);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Finds the method creating unstarted virtual threads, calling {@code Thread.ofVirtual()} once: 
+     * on JDK 19 and 20 it exists but throws UnsupportedOperationException unless preview features are enabled.
+     * 
+     * @return the method, null when virtual threads can't be created
+     */
+    private static Method lookupUnstarted() {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            OF_VIRTUAL.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+        return lookup(OF_VIRTUAL.getReturnType(), "unstarted", Runnable.class);
+    }
+
+    private static Method lookup(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Runs the iterations of one thread, keeping its latencies and failures.
+     * Failures are grouped by class and message, only the first of each group is kept.
+     */
+    final class Worker implements Runnable {
+        private final Processable processable;
+        private final CountDownLatch ready;
+        private final CountDownLatch start;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final Map<String, Throwable> failures = new LinkedHashMap<>();
+        private final Map<String, Integer> failureCounts = new LinkedHashMap<>();
+
+        Worker(Processable processable, CountDownLatch ready, CountDownLatch start) {
+            this.processable = processable;
+            this.ready = ready;
+            this.start = start;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < warmupIterations; i++) {
+                    process();
+                }
+                // warmup failures are not reported
+                failures.clear();
+                failureCounts.clear();
+            } finally {
+                ready.countDown();
+            }
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (int i = 0; i < iterations; i++) {
+                final long startNanos = System.nanoTime();
+                process();
+                latencies.record(System.nanoTime() - startNanos);
+            }
+        }
+
+        private void process() {
+            try {
+                processable.process();
+            } catch (Throwable e) {
+                // errors are failures too, a thread dying silently would hide them from the result
+                final String key = e.getClass().getName() + ": " + e.getMessage();
+                failures.putIfAbsent(key, e);
+                failureCounts.merge(key, 1, Integer::sum);
+            }
+        }
+
+        LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        Map<String, Throwable> getFailures() {
+            return failures;
+        }
+
+        Map<String, Integer> getFailureCounts() {
+            return failureCounts;
+        }
+    }
+}
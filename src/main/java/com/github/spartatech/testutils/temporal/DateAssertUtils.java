@@ -1,9 +1,22 @@
 package com.github.spartatech.testutils.temporal;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
 
 import org.junit.Assert;
 import org.junit.ComparisonFailure;
@@ -16,14 +29,28 @@ import com.github.spartatech.testutils.exception.FieldNotFoundException;
  * 
  * Assertion utils for Date.
  * 
+ * The java.time asserts ({@code assertTemporal} and {@code assertDate} with a ZoneId) don't depend on the default time zone 
+ * and don't create Calendar objects, fields of instants are extracted from the epoch millis, with millisecond precision.
+ * 
  * @author Daniel Conde Diehl 
  * 
  * History: 
  *    Dec 29, 2016 - Daniel Conde Diehl
+ *    Oct 16, 2026 - Sparta Team - Calendar field names looked up in a table built once.
+ *    Oct 16, 2026 - Sparta Team - java.time asserts.
+ *    Oct 16, 2026 - Sparta Team - Cached date format patterns.
+ *    Oct 16, 2026 - Sparta Team - Bulk asserts.
+ *    Oct 16, 2026 - Sparta Team - Instants compared with zoned temporals.
+ *    Oct 16, 2026 - Sparta Team - Bulk assert of Dates against epoch millis.
  *  
  */
 public abstract class DateAssertUtils {
 
+    /**
+     * Names of the Calendar fields, indexed by the field Id, null for Ids that are not fields.
+     */
+    private static final String[] CALENDAR_FIELD_NAMES = buildCalendarFieldNames();
+
     /**
      * Assert date fields in the date elements.
      * 
@@ -66,7 +93,391 @@ public abstract class DateAssertUtils {
     
     
     /**
-     * Compares Dates by format
+     * Assert date fields of Dates in a time zone, without using the default time zone.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected Expected Date 
+     * @param actual Actual Date
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}
+     * @throws ComparisonFailure in case comparison fails
+     */
+    public static void assertDate(String message, Date expected, Date actual, ZoneId zone, TemporalField... fields) throws ComparisonFailure {
+        if (fields.length == 0) {
+            Assert.assertEquals(message == null ? "Date Mismatch": message,  expected, actual);
+        }
+        assertEpochFields(message, expected.getTime(), actual.getTime(), zone, fields);
+    }
+    
+    /**
+     * Assert date fields of Dates in a time zone, without using the default time zone. Shows a standard failures message.
+     * 
+     * @param expected Expected Date 
+     * @param actual Actual Date
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}
+     * @throws ComparisonFailure in case comparison fails
+     */
+    public static void assertDate(Date expected, Date actual, ZoneId zone, TemporalField... fields) throws ComparisonFailure {
+        assertDate(null, expected, actual, zone, fields);
+    }
+    
+    /**
+     * Assert fields of temporal objects, i.e. LocalDateTime, ZonedDateTime or OffsetDateTime. 
+     * Fields are read in the zone of each object, two Instants are read in UTC, an Instant compared with a zoned temporal 
+     * is read in the zone of the other one.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected Expected temporal
+     * @param actual Actual temporal
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the objects are compared with equals
+     * @throws ComparisonFailure in case comparison fails
+     * @throws IllegalArgumentException when a field is not supported by a temporal, or an Instant is compared with a temporal without zone
+     */
+    public static void assertTemporal(String message, Temporal expected, Temporal actual, TemporalField... fields) throws ComparisonFailure {
+        if (fields.length == 0) {
+            Assert.assertEquals(message == null ? "Date Mismatch": message,  expected, actual);
+        }
+        if (expected instanceof Instant && actual instanceof Instant) {
+            assertEpochFields(message, ((Instant) expected).toEpochMilli(), ((Instant) actual).toEpochMilli(), ZoneOffset.UTC, fields);
+            return;
+        }
+        final Temporal expectedFields = inZoneOf(expected, actual);
+        final Temporal actualFields = inZoneOf(actual, expected);
+        for (TemporalField field : fields) {
+            if (!expectedFields.isSupported(field) || !actualFields.isSupported(field)) {
+                throw new IllegalArgumentException("Field " + field + " is not supported by " 
+                        + (expectedFields.isSupported(field) ? actual : expected).getClass().getSimpleName());
+            }
+            final long expectedValue = expectedFields.getLong(field);
+            final long actualValue = actualFields.getLong(field);
+            if (expectedValue != actualValue) {
+                throw fieldMismatch(message, field, expectedValue, actualValue);
+            }
+        }
+    }
+    
+    /**
+     * Assert fields of temporal objects, i.e. LocalDateTime, ZonedDateTime or OffsetDateTime. Shows a standard failures message.
+     * Fields are read in the zone of each object, two Instants are read in UTC, an Instant compared with a zoned temporal 
+     * is read in the zone of the other one.
+     * 
+     * @param expected Expected temporal
+     * @param actual Actual temporal
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the objects are compared with equals
+     * @throws ComparisonFailure in case comparison fails
+     * @throws IllegalArgumentException when a field is not supported by a temporal, or an Instant is compared with a temporal without zone
+     */
+    public static void assertTemporal(Temporal expected, Temporal actual, TemporalField... fields) throws ComparisonFailure {
+        assertTemporal(null, expected, actual, fields);
+    }
+    
+    /**
+     * Assert fields of temporal objects representing an instant, i.e. Instant, ZonedDateTime or OffsetDateTime, 
+     * both read in the same time zone.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected Expected temporal
+     * @param actual Actual temporal
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure in case comparison fails
+     * @throws IllegalArgumentException when a temporal does not represent an instant, i.e. a LocalDateTime
+     */
+    public static void assertTemporal(String message, Temporal expected, Temporal actual, ZoneId zone, TemporalField... fields) throws ComparisonFailure {
+        final long expectedMilli = toEpochMilli(expected);
+        final long actualMilli = toEpochMilli(actual);
+        if (fields.length == 0) {
+            Assert.assertEquals(message == null ? "Date Mismatch": message,  Instant.ofEpochMilli(expectedMilli), Instant.ofEpochMilli(actualMilli));
+        }
+        assertEpochFields(message, expectedMilli, actualMilli, zone, fields);
+    }
+    
+    /**
+     * Assert fields of temporal objects representing an instant, i.e. Instant, ZonedDateTime or OffsetDateTime, 
+     * both read in the same time zone. Shows a standard failures message.
+     * 
+     * @param expected Expected temporal
+     * @param actual Actual temporal
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure in case comparison fails
+     * @throws IllegalArgumentException when a temporal does not represent an instant, i.e. a LocalDateTime
+     */
+    public static void assertTemporal(Temporal expected, Temporal actual, ZoneId zone, TemporalField... fields) throws ComparisonFailure {
+        assertTemporal(null, expected, actual, zone, fields);
+    }
+    
+    /**
+     * Assert fields of many dates at once, given as epoch millis, in a time zone. 
+     * All dates are compared and every index that mismatches is reported in a single failure.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected expected dates as epoch millis
+     * @param actual actual dates as epoch millis
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of dates differ
+     * @throws DatesAssertionError when any date mismatches
+     */
+    public static void assertDates(String message, long[] expected, long[] actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        if (expected.length != actual.length) {
+            throw new ComparisonFailure(message == null ? "Invalid number of dates": message, 
+                    String.valueOf(expected.length), String.valueOf(actual.length));
+        }
+        int[] mismatches = null;
+        int count = 0;
+        final int length = expected.length;
+        for (int i = 0; i < length; i++) {
+            // equal instants have equal fields, only the different ones are broken down
+            if (expected[i] != actual[i] && (fields.length == 0 || firstMismatch(expected[i], actual[i], zone, fields) != null)) {
+                if (mismatches == null) {
+                    mismatches = new int[16];
+                } else if (count == mismatches.length) {
+                    mismatches = Arrays.copyOf(mismatches, count * 2);
+                }
+                mismatches[count++] = i;
+            }
+        }
+        if (count > 0) {
+            throw new DatesAssertionError(message, expected, actual, zone, fields, Arrays.copyOf(mismatches, count));
+        }
+    }
+    
+    /**
+     * Assert fields of many dates at once, given as epoch millis, in a time zone. Shows a standard failures message.
+     * 
+     * @param expected expected dates as epoch millis
+     * @param actual actual dates as epoch millis
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of dates differ
+     * @throws DatesAssertionError when any date mismatches
+     */
+    public static void assertDates(long[] expected, long[] actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        assertDates(null, expected, actual, zone, fields);
+    }
+    
+    /**
+     * Assert fields of many Dates at once, in a time zone. 
+     * All dates are compared and every index that mismatches is reported in a single failure.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected expected dates
+     * @param actual actual dates
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of dates differ
+     * @throws DatesAssertionError when any date mismatches
+     */
+    public static void assertDates(String message, List<Date> expected, List<Date> actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        assertDates(message, toEpochMillis(expected), toEpochMillis(actual), zone, fields);
+    }
+    
+    /**
+     * Assert fields of many Dates at once, in a time zone. Shows a standard failures message.
+     * 
+     * @param expected expected dates
+     * @param actual actual dates
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of dates differ
+     * @throws DatesAssertionError when any date mismatches
+     */
+    public static void assertDates(List<Date> expected, List<Date> actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        assertDates(null, expected, actual, zone, fields);
+    }
+    
+    /**
+     * Assert fields of many Dates at once against dates given as epoch millis, in a time zone. 
+     * All dates are compared and every index that mismatches is reported in a single failure.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected expected dates
+     * @param actual actual dates as epoch millis
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of dates differ
+     * @throws DatesAssertionError when any date mismatches
+     */
+    public static void assertDates(String message, List<Date> expected, long[] actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        assertDates(message, toEpochMillis(expected), actual, zone, fields);
+    }
+    
+    /**
+     * Assert fields of many Dates at once against dates given as epoch millis, in a time zone. Shows a standard failures message.
+     * 
+     * @param expected expected dates
+     * @param actual actual dates as epoch millis
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of dates differ
+     * @throws DatesAssertionError when any date mismatches
+     */
+    public static void assertDates(List<Date> expected, long[] actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        assertDates(null, expected, actual, zone, fields);
+    }
+    
+    /**
+     * Assert fields of many temporal objects representing instants at once, i.e. Instant, ZonedDateTime or OffsetDateTime, 
+     * all read in the same time zone. Every index that mismatches is reported in a single failure.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected expected temporals
+     * @param actual actual temporals
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of temporals differ
+     * @throws DatesAssertionError when any temporal mismatches
+     * @throws IllegalArgumentException when a temporal does not represent an instant, i.e. a LocalDateTime
+     */
+    public static void assertTemporals(String message, List<? extends Temporal> expected, List<? extends Temporal> actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        final long[] expectedMillis = new long[expected.size()];
+        int i = 0;
+        for (Temporal temporal : expected) {
+            expectedMillis[i++] = toEpochMilli(temporal);
+        }
+        final long[] actualMillis = new long[actual.size()];
+        i = 0;
+        for (Temporal temporal : actual) {
+            actualMillis[i++] = toEpochMilli(temporal);
+        }
+        assertDates(message, expectedMillis, actualMillis, zone, fields);
+    }
+    
+    /**
+     * Assert fields of many temporal objects representing instants at once, i.e. Instant, ZonedDateTime or OffsetDateTime, 
+     * all read in the same time zone. Shows a standard failures message.
+     * 
+     * @param expected expected temporals
+     * @param actual actual temporals
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared, i.e. {@link ChronoField#YEAR}. When none is given the instants are compared
+     * @throws ComparisonFailure when the number of temporals differ
+     * @throws DatesAssertionError when any temporal mismatches
+     * @throws IllegalArgumentException when a temporal does not represent an instant, i.e. a LocalDateTime
+     */
+    public static void assertTemporals(List<? extends Temporal> expected, List<? extends Temporal> actual, ZoneId zone, TemporalField... fields) throws AssertionError {
+        assertTemporals(null, expected, actual, zone, fields);
+    }
+    
+    /**
+     * Finds the first field that differs between two instants in a time zone.
+     * 
+     * @param expected expected epoch millis
+     * @param actual actual epoch millis
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared
+     * @return the first field that differs, null when all match
+     */
+    static TemporalField firstMismatch(long expected, long actual, ZoneId zone, TemporalField[] fields) {
+        final int expectedOffset = EpochFields.offsetSeconds(expected, zone);
+        final int actualOffset = EpochFields.offsetSeconds(actual, zone);
+        for (TemporalField field : fields) {
+            if (EpochFields.get(expected, expectedOffset, field) != EpochFields.get(actual, actualOffset, field)) {
+                return field;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * @param field temporal field
+     * @return the name of the field, the constant name for ChronoFields
+     */
+    static String fieldName(TemporalField field) {
+        return field instanceof ChronoField ? ((ChronoField) field).name() : field.toString();
+    }
+    
+    /**
+     * Compares fields of two instants in a time zone.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param expected expected epoch millis
+     * @param actual actual epoch millis
+     * @param zone time zone where the fields are extracted
+     * @param fields fields to be compared
+     * @throws ComparisonFailure in case comparison fails
+     */
+    private static void assertEpochFields(String message, long expected, long actual, ZoneId zone, TemporalField... fields) throws ComparisonFailure {
+        final TemporalField field = firstMismatch(expected, actual, zone, fields);
+        if (field != null) {
+            throw fieldMismatch(message, field, EpochFields.get(expected, EpochFields.offsetSeconds(expected, zone), field), 
+                    EpochFields.get(actual, EpochFields.offsetSeconds(actual, zone), field));
+        }
+    }
+    
+    /**
+     * Creates the failure of a field, the field name is only computed here.
+     * 
+     * @param message message in case user wants to show a custom message
+     * @param field field that mismatched
+     * @param expected expected value
+     * @param actual actual value
+     * @return failure to be thrown
+     */
+    private static ComparisonFailure fieldMismatch(String message, TemporalField field, long expected, long actual) {
+        return new ComparisonFailure(message == null ? "Field "+ fieldName(field)+ " mismatch": message, 
+                String.valueOf(expected), String.valueOf(actual));
+    }
+    
+    /**
+     * Converts Dates to epoch millis, for the bulk asserts.
+     * 
+     * @param dates dates
+     * @return epoch millis of the dates, in the same order
+     */
+    private static long[] toEpochMillis(List<Date> dates) {
+        final long[] millis = new long[dates.size()];
+        int i = 0;
+        for (Date date : dates) {
+            millis[i++] = date.getTime();
+        }
+        return millis;
+    }
+    
+    /**
+     * Gives the temporal whose fields are compared, an Instant compared with another kind of temporal is read in its zone.
+     * 
+     * @param temporal temporal being compared
+     * @param other temporal it is compared with
+     * @return the temporal itself, or the Instant as a ZonedDateTime in the zone of the other temporal
+     * @throws IllegalArgumentException when the temporal is an Instant and the other one has no zone, i.e. a LocalDateTime
+     */
+    private static Temporal inZoneOf(Temporal temporal, Temporal other) {
+        if (!(temporal instanceof Instant) || other instanceof Instant) {
+            return temporal;
+        }
+        // an Instant has no calendar fields, they are read in the zone of the temporal it is compared with
+        final ZoneId zone = other.query(TemporalQueries.zone());
+        if (zone == null) {
+            throw new IllegalArgumentException("Instant " + temporal + " can't be compared with " + other.getClass().getSimpleName() 
+                    + ", it has no time zone, use assertTemporal with a ZoneId");
+        }
+        return ZonedDateTime.ofInstant((Instant) temporal, zone);
+    }
+    
+    /**
+     * Converts a temporal representing an instant to epoch millis.
+     * 
+     * @param temporal temporal object
+     * @return epoch millis
+     * @throws IllegalArgumentException when the temporal does not represent an instant
+     */
+    private static long toEpochMilli(Temporal temporal) {
+        if (temporal instanceof Instant) {
+            return ((Instant) temporal).toEpochMilli();
+        }
+        if (!temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+            throw new IllegalArgumentException("Temporal " + temporal + " is not an instant, use a ZonedDateTime or OffsetDateTime");
+        }
+        return Math.addExact(Math.multiplyExact(temporal.getLong(ChronoField.INSTANT_SECONDS), 1000L), temporal.getLong(ChronoField.MILLI_OF_SECOND));
+    }
+    
+    /**
+     * Compares Dates by format, in the default time zone and locale.
+     * Common patterns (i.e. yyyy-MM-dd HH:mm:ss.SSS) are analyzed once and the dates compared by the fields in the pattern, 
+     * the dates are only formatted when they don't match. Other patterns are formatted by a SimpleDateFormat.
      * 
      * @param message to be presented in case of error
      * @param expected expected date
@@ -75,10 +486,20 @@ public abstract class DateAssertUtils {
      * @throws ComparisonFailure in case comparison fails
      */
     public static void assertDateByFormat(String message, Date expected, Date actual, String format) throws ComparisonFailure {
-        final SimpleDateFormat sdf = new SimpleDateFormat(format);
-        
-        final String actualFormatted = sdf.format(actual);
-        final String exepctedFormatted =sdf.format(expected);
+        final DateFormatPattern pattern = DateFormatPattern.of(format, TimeZone.getDefault(), Locale.getDefault(Locale.Category.FORMAT));
+        final String actualFormatted;
+        final String exepctedFormatted;
+        if (pattern.supports(expected.getTime()) && pattern.supports(actual.getTime())) {
+            if (pattern.sameFields(expected.getTime(), actual.getTime())) {
+                return;
+            }
+            actualFormatted = pattern.format(actual.getTime());
+            exepctedFormatted = pattern.format(expected.getTime());
+        } else {
+            final SimpleDateFormat sdf = new SimpleDateFormat(format);
+            actualFormatted = sdf.format(actual);
+            exepctedFormatted =sdf.format(expected);
+        }
         
         if (!actualFormatted.equals(exepctedFormatted)) {
             throw new ComparisonFailure(message == null ? "Date mismatch": message, 
@@ -106,18 +527,33 @@ public abstract class DateAssertUtils {
      * @throws FieldNotFoundException when the fields does not exist for Calendar
      */
     private static String findCalendarFieldName(int fieldId) throws FieldNotFoundException {
+        if (fieldId < 0 || fieldId >= CALENDAR_FIELD_NAMES.length || CALENDAR_FIELD_NAMES[fieldId] == null) {
+            throw new FieldNotFoundException("Field ["+ fieldId + "] not found as a constant in Calendar");
+        }
+        return CALENDAR_FIELD_NAMES[fieldId];
+    }
+    
+    /**
+     * Builds the table of Calendar field names from its constants, the first constant declared with each Id wins
+     * (i.e. ERA and not JANUARY for 0).
+     * 
+     * @return field names indexed by the field Id
+     */
+    private static String[] buildCalendarFieldNames() {
+        final String[] names = new String[Calendar.FIELD_COUNT];
         for (Field field : Calendar.class.getFields()) {
-            if (field.getType() == Integer.TYPE) {
+            if (field.getType() == Integer.TYPE && Modifier.isStatic(field.getModifiers())) {
                 try {
-                    if (field.getInt(null) == fieldId) {
-                        return field.getName();
+                    final int fieldId = field.getInt(null);
+                    if (fieldId >= 0 && fieldId < names.length && names[fieldId] == null) {
+                        names[fieldId] = field.getName();
                     }
                 } catch (IllegalArgumentException|IllegalAccessException e) {
                     continue;
                 }
             }
         }
-        throw new FieldNotFoundException("Field ["+ fieldId + "] not found as a constant in Calendar");
+        return names;
     }
     
 }
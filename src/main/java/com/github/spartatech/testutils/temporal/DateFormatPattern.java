@@ -0,0 +1,267 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.text.DecimalFormatSymbols;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+
+/** 
+ * 
+ * SimpleDateFormat pattern used by {@link DateAssertUtils#assertDateByFormat(java.util.Date, java.util.Date, String)}, 
+ * analyzed once and cached by pattern, zone and locale.
+ * 
+ * Patterns made only of letters that format the same in SimpleDateFormat and DateTimeFormatter get an immutable 
+ * DateTimeFormatter and the list of fields they print. Dates are then compared by those fields, extracted arithmetically, 
+ * and only formatted when a field differs. Other patterns, locales whose calendar is not Gregorian or whose digits 
+ * are not ASCII, and dates before the Gregorian cutover or after year 9999, must be compared with a SimpleDateFormat. Offsets come from the same TimeZone used by SimpleDateFormat, 
+ * its offsets differ from java.time for old dates.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Fast path only for Gregorian ASCII locales and 4 digit years, LRU cache.
+ *  
+ */
+final class DateFormatPattern {
+
+    /**
+     * Max number of patterns cached, the least recently used is evicted when full.
+     */
+    private static final int MAX_CACHED = 256;
+
+    /**
+     * 1582-10-15T00:00:00Z, SimpleDateFormat uses the Julian calendar before it.
+     */
+    private static final long GREGORIAN_CUTOVER_MILLI = -12219292800000L;
+
+    /**
+     * 10000-01-01T00:00:00Z, DateTimeFormatter prints a sign before years with more than 4 digits.
+     */
+    private static final long YEAR_10000_MILLI = 253402300800000L;
+
+    /**
+     * Analyzed patterns in access order, guarded by itself.
+     */
+    private static final Map<Key, DateFormatPattern> CACHE = new LinkedHashMap<Key, DateFormatPattern>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, DateFormatPattern> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    private final TimeZone zone;
+    private final DateTimeFormatter formatter;
+    private final ChronoField[] fields;
+
+    private DateFormatPattern(TimeZone zone, DateTimeFormatter formatter, ChronoField[] fields) {
+        this.zone = zone;
+        this.formatter = formatter;
+        this.fields = fields;
+    }
+
+    /**
+     * Gets the cached pattern, analyzing it on the first use.
+     * 
+     * @param pattern SimpleDateFormat pattern
+     * @param zone time zone the dates are formatted in
+     * @param locale locale the dates are formatted in
+     * @return analyzed pattern
+     */
+    static DateFormatPattern of(String pattern, TimeZone zone, Locale locale) {
+        final Key key = new Key(pattern, zone.getID(), locale);
+        synchronized (CACHE) {
+            final DateFormatPattern cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // own copy, TimeZone is mutable
+        final DateFormatPattern analyzed = analyze(pattern, (TimeZone) zone.clone(), locale);
+        synchronized (CACHE) {
+            final DateFormatPattern cached = CACHE.putIfAbsent(key, analyzed);
+            return cached == null ? analyzed : cached;
+        }
+    }
+
+    /**
+     * @param epochMilli date as epoch millis
+     * @return true when the date can be compared and formatted without a SimpleDateFormat
+     */
+    boolean supports(long epochMilli) {
+        if (formatter == null || epochMilli < GREGORIAN_CUTOVER_MILLI) {
+            return false;
+        }
+        final int offset = zone.getOffset(epochMilli);
+        return offset % 1000 == 0 && epochMilli < YEAR_10000_MILLI - offset;
+    }
+
+    /**
+     * Compares the fields printed by the pattern, equal fields format to equal Strings.
+     * 
+     * @param expected expected epoch millis
+     * @param actual actual epoch millis
+     * @return true when all fields are equal
+     */
+    boolean sameFields(long expected, long actual) {
+        final int expectedOffset = zone.getOffset(expected) / 1000;
+        final int actualOffset = zone.getOffset(actual) / 1000;
+        for (ChronoField field : fields) {
+            if (EpochFields.get(expected, expectedOffset, field) != EpochFields.get(actual, actualOffset, field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param epochMilli date as epoch millis
+     * @return the date formatted
+     */
+    String format(long epochMilli) {
+        return formatter.withZone(ZoneOffset.ofTotalSeconds(zone.getOffset(epochMilli) / 1000)).format(Instant.ofEpochMilli(epochMilli));
+    }
+
+    /**
+     * Translates the pattern, when every letter has the same meaning in SimpleDateFormat and DateTimeFormatter.
+     * 
+     * @param pattern SimpleDateFormat pattern
+     * @param zone time zone the dates are formatted in
+     * @param locale locale the dates are formatted in
+     * @return analyzed pattern, without formatter when it must be formatted by SimpleDateFormat
+     */
+    private static DateFormatPattern analyze(String pattern, TimeZone zone, Locale locale) {
+        if (!isGregorianAscii(zone, locale)) {
+            return new DateFormatPattern(zone, null, null);
+        }
+        final List<ChronoField> fields = new ArrayList<>();
+        boolean quoted = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+                i++;
+                continue;
+            }
+            if (quoted || !Character.isLetter(c)) {
+                if (!quoted && "[]{}#".indexOf(c) >= 0) {
+                    // reserved by DateTimeFormatter, literal for SimpleDateFormat
+                    return new DateFormatPattern(zone, null, null);
+                }
+                i++;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            final ChronoField field = fieldOf(c, count);
+            if (field == null) {
+                return new DateFormatPattern(zone, null, null);
+            }
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+            i += count;
+        }
+        if (quoted) {
+            return new DateFormatPattern(zone, null, null);
+        }
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        return new DateFormatPattern(zone, formatter, fields.toArray(new ChronoField[fields.size()]));
+    }
+
+    /**
+     * DateTimeFormatter always prints ISO years with ASCII digits, SimpleDateFormat uses the calendar and digits of the locale, 
+     * i.e. Buddhist years in th_TH and Japanese eras in ja_JP_JP.
+     * 
+     * @param zone time zone the dates are formatted in
+     * @param locale locale the dates are formatted in
+     * @return true when the locale formats dates like DateTimeFormatter
+     */
+    private static boolean isGregorianAscii(TimeZone zone, Locale locale) {
+        return "gregory".equals(Calendar.getInstance(zone, locale).getCalendarType()) 
+                && DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+    }
+
+    /**
+     * Finds the field printed by a pattern letter, for the letters and counts that print the same in 
+     * SimpleDateFormat and DateTimeFormatter.
+     * 
+     * @param letter pattern letter
+     * @param count number of repetitions
+     * @return field printed, null when the letter must be formatted by SimpleDateFormat
+     */
+    private static ChronoField fieldOf(char letter, int count) {
+        switch (letter) {
+            case 'y':
+                return ChronoField.YEAR;
+            case 'M':
+                // month names may use a different form
+                return count <= 2 ? ChronoField.MONTH_OF_YEAR : null;
+            case 'd':
+                return count <= 2 ? ChronoField.DAY_OF_MONTH : null;
+            case 'D':
+                return count <= 3 ? ChronoField.DAY_OF_YEAR : null;
+            case 'E':
+                return count <= 4 ? ChronoField.DAY_OF_WEEK : null;
+            case 'a':
+                return count == 1 ? ChronoField.HOUR_OF_DAY : null;
+            case 'H':
+            case 'k':
+            case 'K':
+            case 'h':
+                return count <= 2 ? ChronoField.HOUR_OF_DAY : null;
+            case 'm':
+                return count <= 2 ? ChronoField.MINUTE_OF_HOUR : null;
+            case 's':
+                return count <= 2 ? ChronoField.SECOND_OF_MINUTE : null;
+            case 'S':
+                // milliseconds in SimpleDateFormat, fraction of second in DateTimeFormatter
+                return count == 3 ? ChronoField.MILLI_OF_SECOND : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Pattern, zone and locale of a cached pattern.
+     */
+    private static final class Key {
+        private final String pattern;
+        private final String zone;
+        private final Locale locale;
+
+        Key(String pattern, String zone, Locale locale) {
+            this.pattern = pattern;
+            this.zone = zone;
+            this.locale = locale;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * pattern.hashCode() + zone.hashCode()) + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return pattern.equals(other.pattern) && zone.equals(other.zone) && locale.equals(other.locale);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.TemporalField;
+
+import com.github.spartatech.testutils.colletion.ListAssertionError;
+
+/**
+ *
+ * Failure thrown by the bulk asserts of {@link DateAssertUtils} (i.e. {@code assertDates}),
+ * with every index where the dates don't match.
+ *
+ * The message is only rendered when {@link #getMessage()} is called, and shows the first mismatches, with the first field
+ * that differs. The limit is the same system property of {@link ListAssertionError}, {@value ListAssertionError#MAX_REPORTED_PROPERTY}
+ * (default {@value ListAssertionError#DEFAULT_MAX_REPORTED}, 0 for no limit). {@link #getMismatchIndices()} has all of them.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ *    Oct 16, 2026 - Sparta Team - Message rendered lazily, limit shared with ListAssertionError.
+ *
+ */
+public class DatesAssertionError extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String BR = System.getProperty("line.separator");
+
+    private final String customMessage;
+    private final int[] mismatchIndices;
+    private final int total;
+    private final transient ZoneId zone;
+    private final transient TemporalField[] fields;
+
+    /**
+     * Dates of the mismatches shown in the message, not the whole arrays.
+     */
+    private final long[] shownExpected;
+    private final long[] shownActual;
+    private volatile String message;
+
+    /**
+     * Constructor with the dates compared, reads the limit from the system properties.
+     *
+     * @param message custom message, null for the standard one
+     * @param expected expected epoch millis
+     * @param actual actual epoch millis
+     * @param zone time zone where the fields were extracted
+     * @param fields fields compared, empty when the instants were compared
+     * @param mismatchIndices indices where the dates don't match
+     */
+    DatesAssertionError(String message, long[] expected, long[] actual, ZoneId zone, TemporalField[] fields, int[] mismatchIndices) {
+        this.customMessage = message;
+        this.mismatchIndices = mismatchIndices;
+        this.total = expected.length;
+        this.zone = zone;
+        this.fields = fields;
+        final int maxReported = Integer.getInteger(ListAssertionError.MAX_REPORTED_PROPERTY, ListAssertionError.DEFAULT_MAX_REPORTED);
+        final int shown = maxReported <= 0 ? mismatchIndices.length : Math.min(maxReported, mismatchIndices.length);
+        this.shownExpected = new long[shown];
+        this.shownActual = new long[shown];
+        for (int i = 0; i < shown; i++) {
+            shownExpected[i] = expected[mismatchIndices[i]];
+            shownActual[i] = actual[mismatchIndices[i]];
+        }
+    }
+
+    /**
+     * @return copy of the indices where the dates don't match, in ascending order
+     */
+    public int[] getMismatchIndices() {
+        return mismatchIndices.clone();
+    }
+
+    /**
+     * @return number of dates compared
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            rendered = render();
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    private String render() {
+        final StringBuilder msg = new StringBuilder();
+        msg.append(customMessage == null ? "Dates mismatch" : customMessage)
+           .append(" at ").append(mismatchIndices.length).append(" of ").append(total).append(" indices").append(BR);
+        for (int i = 0; i < shownExpected.length; i++) {
+            msg.append('[').append(mismatchIndices[i]).append("] ");
+            final TemporalField field = DateAssertUtils.firstMismatch(shownExpected[i], shownActual[i], zone, fields);
+            if (field != null) {
+                final int expectedOffset = EpochFields.offsetSeconds(shownExpected[i], zone);
+                final int actualOffset = EpochFields.offsetSeconds(shownActual[i], zone);
+                msg.append("Field ").append(DateAssertUtils.fieldName(field)).append(" expected:<")
+                   .append(EpochFields.get(shownExpected[i], expectedOffset, field)).append("> but was:<")
+                   .append(EpochFields.get(shownActual[i], actualOffset, field)).append("> ");
+            }
+            msg.append('(').append(Instant.ofEpochMilli(shownExpected[i]).atZone(zone))
+               .append(" / ").append(Instant.ofEpochMilli(shownActual[i]).atZone(zone)).append(')').append(BR);
+        }
+        if (shownExpected.length < mismatchIndices.length) {
+            msg.append("... ").append(mismatchIndices.length - shownExpected.length).append(" more").append(BR);
+        }
+        return msg.toString();
+    }
+
+    /**
+     * Renders the message, custom fields may not be serializable so only the message is kept.
+     *
+     * @return error with the rendered message
+     */
+    private Object writeReplace() {
+        final AssertionError replacement = new AssertionError(getMessage());
+        replacement.setStackTrace(getStackTrace());
+        return replacement;
+    }
+}
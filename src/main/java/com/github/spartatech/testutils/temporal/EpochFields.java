@@ -0,0 +1,168 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+
+
+/** 
+ * 
+ * Extracts date and time fields from epoch millis and a zone offset with arithmetic only, 
+ * without creating Calendar or java.time objects for the common fields.
+ * Fields not handled here are read from an {@link OffsetDateTime} built for the instant.
+ * 
+ * @author Sparta Team
+ * 
+ * History: 
+ *    Oct 16, 2026 - Sparta Team
+ *  
+ */
+final class EpochFields {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final long DAYS_PER_ERA = 146097L;
+    private static final long DAYS_0000_TO_1970 = 719468L;
+
+    private EpochFields() {
+    }
+
+    /**
+     * Finds the offset of a zone at an instant.
+     * 
+     * @param epochMilli instant as epoch millis
+     * @param zone time zone
+     * @return offset in seconds
+     */
+    static int offsetSeconds(long epochMilli, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return ((ZoneOffset) zone).getTotalSeconds();
+        }
+        return zone.getRules().getOffset(Instant.ofEpochMilli(epochMilli)).getTotalSeconds();
+    }
+
+    /**
+     * Gets the value of a field for an instant in a zone offset.
+     * 
+     * @param epochMilli instant as epoch millis
+     * @param offsetSeconds zone offset in seconds
+     * @param field field to extract
+     * @return value of the field
+     */
+    static long get(long epochMilli, int offsetSeconds, TemporalField field) {
+        final long localMilli = epochMilli + offsetSeconds * MILLIS_PER_SECOND;
+        final long localSecond = Math.floorDiv(localMilli, MILLIS_PER_SECOND);
+        final long milliOfSecond = Math.floorMod(localMilli, MILLIS_PER_SECOND);
+        final long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        final long secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        if (!(field instanceof ChronoField)) {
+            return slowGet(epochMilli, offsetSeconds, field);
+        }
+        switch ((ChronoField) field) {
+            case NANO_OF_SECOND:
+                return milliOfSecond * 1_000_000L;
+            case MICRO_OF_SECOND:
+                return milliOfSecond * 1_000L;
+            case MILLI_OF_SECOND:
+                return milliOfSecond;
+            case MILLI_OF_DAY:
+                return secondOfDay * MILLIS_PER_SECOND + milliOfSecond;
+            case SECOND_OF_MINUTE:
+                return secondOfDay % 60;
+            case SECOND_OF_DAY:
+                return secondOfDay;
+            case MINUTE_OF_HOUR:
+                return (secondOfDay / 60) % 60;
+            case MINUTE_OF_DAY:
+                return secondOfDay / 60;
+            case HOUR_OF_DAY:
+                return secondOfDay / 3600;
+            case HOUR_OF_AMPM:
+                return (secondOfDay / 3600) % 12;
+            case AMPM_OF_DAY:
+                return secondOfDay / 3600 < 12 ? 0 : 1;
+            case DAY_OF_WEEK:
+                // 1970-01-01 was a Thursday
+                return Math.floorMod(epochDay + 3, 7) + 1;
+            case EPOCH_DAY:
+                return epochDay;
+            case YEAR:
+                return yearOf(epochDay);
+            case MONTH_OF_YEAR:
+                return monthOf(epochDay);
+            case DAY_OF_MONTH:
+                return dayOfMonthOf(epochDay);
+            case DAY_OF_YEAR:
+                return epochDay - firstDayOfYear(yearOf(epochDay)) + 1;
+            case INSTANT_SECONDS:
+                return Math.floorDiv(epochMilli, MILLIS_PER_SECOND);
+            case OFFSET_SECONDS:
+                return offsetSeconds;
+            default:
+                return slowGet(epochMilli, offsetSeconds, field);
+        }
+    }
+
+    private static long slowGet(long epochMilli, int offsetSeconds, TemporalField field) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.ofTotalSeconds(offsetSeconds)).getLong(field);
+    }
+
+    /*
+     * Civil calendar from days, counting eras of 400 years starting on March 1st, 
+     * so the leap day is the last day of the year.
+     */
+
+    private static long dayOfEra(long epochDay) {
+        final long days = epochDay + DAYS_0000_TO_1970;
+        return days - Math.floorDiv(days, DAYS_PER_ERA) * DAYS_PER_ERA;
+    }
+
+    private static long yearOfEra(long dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    /**
+     * @return month starting on March, 0 to 11
+     */
+    private static long marchMonth(long epochDay) {
+        final long dayOfEra = dayOfEra(epochDay);
+        final long yearOfEra = yearOfEra(dayOfEra);
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        return (5 * dayOfYear + 2) / 153;
+    }
+
+    private static long yearOf(long epochDay) {
+        final long days = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(days, DAYS_PER_ERA);
+        final long year = yearOfEra(dayOfEra(epochDay)) + era * 400;
+        return marchMonth(epochDay) < 10 ? year : year + 1;
+    }
+
+    private static long monthOf(long epochDay) {
+        final long month = marchMonth(epochDay);
+        return month < 10 ? month + 3 : month - 9;
+    }
+
+    private static long dayOfMonthOf(long epochDay) {
+        final long dayOfEra = dayOfEra(epochDay);
+        final long yearOfEra = yearOfEra(dayOfEra);
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        return dayOfYear - (153 * marchMonth(epochDay) + 2) / 5 + 1;
+    }
+
+    /**
+     * @return epoch day of January 1st of the year
+     */
+    private static long firstDayOfYear(long year) {
+        // January belongs to the previous March based year
+        final long marchYear = year - 1;
+        final long era = Math.floorDiv(marchYear, 400);
+        final long yearOfEra = marchYear - era * 400;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + 306;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+}
@@ -3,16 +3,27 @@ package test.com.github.spartatech.testutils.collection;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.github.spartatech.testutils.colletion.CollectionAssert;
+import com.github.spartatech.testutils.colletion.ListAssertionError;
+import com.github.spartatech.testutils.colletion.Ordering;
 
 /** 
  * 
@@ -74,6 +85,305 @@ public class TestCollectionAssert extends CollectionAssert {
         }
     }
     
+    @Test
+    public void testAssertReflectionExcludedFieldsPerCall() {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        listOne.add(new TestObj("one", 1, date, 1L));
+        final List<TestObj> listTwo = new ArrayList<>();
+        listTwo.add(new TestObj("one", 3, date, 1L));
+
+        CollectionAssert.assertListByReflection(listOne, listTwo, "field2");
+        try {
+            CollectionAssert.assertListByReflection(listOne, listTwo, "field4");
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage().startsWith("Lists are not similar."));
+        }
+    }
+    
+    @Test
+    public void testAssertReflectionNestedStructures() {
+        final List<NestedObj> listOne = new ArrayList<>();
+        listOne.add(new NestedObj("one", new int[] {1, 2}, Arrays.asList("a", "b"), Collections.singletonMap("k", new NestedObj("child", null, null, null))));
+        final List<NestedObj> listTwo = new ArrayList<>();
+        listTwo.add(new NestedObj("one", new int[] {1, 2}, Arrays.asList("a", "b"), Collections.singletonMap("k", new NestedObj("child", null, null, null))));
+
+        CollectionAssert.assertListByReflection(listOne, listTwo);
+    }
+    
+    @Test
+    public void testAssertReflectionNestedStructuresDifferent() {
+        final List<NestedObj> listOne = new ArrayList<>();
+        listOne.add(new NestedObj("one", new int[] {1, 2}, Arrays.asList("a", "b"), Collections.singletonMap("k", new NestedObj("child", null, null, null))));
+        final List<NestedObj> listTwo = new ArrayList<>();
+        listTwo.add(new NestedObj("one", new int[] {1, 2}, Arrays.asList("a", "b"), Collections.singletonMap("k", new NestedObj("other", null, null, null))));
+
+        try {
+            CollectionAssert.assertListByReflection(listOne, listTwo);
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage().startsWith("Lists are not similar."));
+        }
+    }
+    
+    @Test
+    public void testAssertReflectionCyclicStructures() {
+        final NestedObj cyclicOne = new NestedObj("one", null, new ArrayList<>(), null);
+        cyclicOne.getChildren().add(cyclicOne);
+        final NestedObj cyclicTwo = new NestedObj("one", null, new ArrayList<>(), null);
+        cyclicTwo.getChildren().add(cyclicTwo);
+
+        CollectionAssert.assertListByReflection(Collections.singletonList(cyclicOne), Collections.singletonList(cyclicTwo));
+    }
+    
+    @Test
+    public void testAssertReflectionJdkFieldWithoutEquals() {
+        final List<CounterObj> listOne = Collections.singletonList(new CounterObj("one", new AtomicLong(5), new StringBuilder("a")));
+        final List<CounterObj> listTwo = Collections.singletonList(new CounterObj("one", new AtomicLong(5), new StringBuilder("a")));
+
+        CollectionAssert.assertListByReflection(listOne, listTwo);
+        try {
+            CollectionAssert.assertListByReflection(listOne, Collections.singletonList(new CounterObj("one", new AtomicLong(6), new StringBuilder("a"))));
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage().startsWith("Lists are not similar."));
+        }
+    }
+    
+    @Test
+    public void testAssertListParallelMatches () {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        final List<TestObj> listTwo = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            listOne.add(new TestObj("item" + i, i, date, (long) i));
+            listTwo.add(0, new TestObj("item" + i, i, date, (long) i));
+        }
+
+        CollectionAssert.parallel().assertList(listOne, listTwo, TestObj::getField1, 
+                (a,b) -> a.getField1().equals(b.getField1()) && a.getField2() == b.getField2() ? 0 : 1);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            CollectionAssert.parallel(pool).assertListByReflection(listOne, listTwo);
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    public void testAssertListParallelSameMessageAsSequential () {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        final List<TestObj> listTwo = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            listOne.add(new TestObj("item" + i, i, date, (long) i));
+            listTwo.add(new TestObj("item" + i, i % 7 == 0 ? -i : i, date, (long) i));
+        }
+
+        String sequentialMessage = null;
+        try {
+            CollectionAssert.assertListByReflection(listOne, listTwo);
+        } catch (AssertionError e) {
+            sequentialMessage = e.getMessage();
+        }
+        try {
+            CollectionAssert.parallel().assertListByReflection(listOne, listTwo);
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            Assert.assertEquals(sequentialMessage, e.getMessage());
+        }
+    }
+    
+    @Test
+    public void testAssertStreamMatches () {
+        CollectionAssert.assertStream(Stream.of("a", "b", "c", "b"), Stream.of("b", "c", "b", "a"), Function.identity(), String::compareTo);
+    }
+    
+    @Test
+    public void testAssertStreamDoesNotMatch () {
+        try {
+            CollectionAssert.assertStream(Stream.of("a", "b", "c"), Stream.of("c", "d", "a"), Function.identity(), String::compareTo);
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            final String br = System.getProperty("line.separator");
+            Assert.assertEquals(
+                    "Lists are not similar." +  br
+                    + "List one: Remaining: " + ReflectionToStringBuilder.toString("b") + br
+                    + "List two: Remaining: " + ReflectionToStringBuilder.toString("d") + br
+                    ,e.getMessage()
+                    );
+        }
+    }
+    
+    @Test
+    public void testAssertStreamSpilledToDisk () {
+        final List<Integer> listOne = new ArrayList<>();
+        final List<Integer> listTwo = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            listOne.add(i);
+            listTwo.add(4999 - i);
+        }
+        
+        CollectionAssert.assertStream(listOne.iterator(), listTwo.iterator(), Function.identity(), Integer::compare, 100);
+        
+        listTwo.set(0, -1);
+        try {
+            CollectionAssert.assertStream(listOne.iterator(), listTwo.iterator(), Function.identity(), Integer::compare, 100);
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            final String[] lines = e.getMessage().split(System.getProperty("line.separator"));
+            Assert.assertEquals(3, lines.length);
+            Assert.assertTrue(lines[1].startsWith("List one: Remaining: java.lang.Integer") && lines[1].endsWith("[value=4999]"));
+            Assert.assertTrue(lines[2].startsWith("List two: Remaining: java.lang.Integer") && lines[2].endsWith("[value=-1]"));
+        }
+    }
+    
+    @Test
+    public void testAssertStreamSpilledPartitionsSplit () {
+        final List<Integer> listOne = new ArrayList<>();
+        final List<Integer> listTwo = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            listOne.add(i);
+            listTwo.add(19999 - i);
+        }
+        
+        CollectionAssert.assertStream(listOne.iterator(), listTwo.iterator(), Function.identity(), Integer::compare, 10);
+        
+        listTwo.set(100, -1);
+        listTwo.set(200, -2);
+        try {
+            CollectionAssert.assertStream(listOne.iterator(), listTwo.iterator(), Function.identity(), Integer::compare, 10);
+            fail("Expected AssertionError");
+        } catch (ListAssertionError e) {
+            Assert.assertEquals(2, e.getRemainingOneCount());
+            Assert.assertEquals(2, e.getRemainingTwoCount());
+        }
+    }
+    
+    @Test
+    public void testAssertStreamKeyExtractorFails () {
+        final Function<String, Object> keyExtractor = item -> item.isEmpty() ? null : item.substring(0, 2);
+        try {
+            CollectionAssert.assertStream(Stream.of("ab", "c"), Stream.of("ab", "d"), keyExtractor, String::compareTo);
+            fail("Expected AssertionError");
+        } catch (ListAssertionError e) {
+            Assert.assertEquals(1, e.getRemainingOneCount());
+            Assert.assertEquals(1, e.getRemainingTwoCount());
+        }
+        CollectionAssert.assertStream(Stream.of("ab", "c"), Stream.of("c", "ab"), keyExtractor, String::compareTo);
+    }
+    
+    @Test
+    public void testAssertStreamListTwoMissingItems () {
+        try {
+            CollectionAssert.assertStream(Stream.of("a", "b"), Stream.of("a"), Function.identity(), String::compareTo);
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            Assert.assertEquals("List two is missing items", e.getMessage());
+        }
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testAssertStreamSpillNotSerializable () {
+        final Date date = new Date();
+        CollectionAssert.assertStream(Stream.of(new TestObj("one", 1, date, 1L), new TestObj("two", 2, date, 2L)), Stream.empty(), 
+                TestObj::getField1, (a,b) -> a.getField1().compareTo(b.getField1()), 1);
+    }
+    
+    @Test
+    public void testAssertSortedListMatches () {
+        CollectionAssert.assertSortedList(Arrays.asList(3, 1, 2, 2), Arrays.asList(2, 3, 2, 1), Integer::compare);
+        CollectionAssert.assertList(Arrays.asList(1, 2, 2, 3), Arrays.asList(1, 2, 2, 3), Integer::compare, Ordering.SORTED);
+    }
+    
+    @Test
+    public void testAssertSortedListDoesNotMatch () {
+        try {
+            CollectionAssert.assertSortedList(Arrays.asList(5, 1, 2, 4, 6), Arrays.asList(2, 1, 3, 5), Integer::compare);
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            final String br = System.getProperty("line.separator");
+            Assert.assertEquals(
+                    "Lists are not similar." +  br
+                    + "First difference at index in sorted order: 2" + br
+                    + "List one: Remaining: " + ReflectionToStringBuilder.toString(4) + br
+                    + "List one: Remaining: " + ReflectionToStringBuilder.toString(6) + br
+                    + "List two: Remaining: " + ReflectionToStringBuilder.toString(3) + br
+                    ,e.getMessage()
+                    );
+        }
+    }
+    
+    @Test
+    public void testAssertListSortedDoesNotMatchIndexOfListOne () {
+        try {
+            CollectionAssert.assertList(Arrays.asList(1, 2, 4, 5), Arrays.asList(1, 2, 3, 5), Integer::compare, Ordering.SORTED);
+            fail("Expected AssertionError");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("First difference at index: 2"));
+        }
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testAssertListSortedNotSorted () {
+        CollectionAssert.assertList(Arrays.asList(1, 3, 2), Arrays.asList(1, 2, 3), Integer::compare, Ordering.SORTED);
+    }
+    
+    @Test
+    public void testAssertListLargeMismatchIsBounded () {
+        final List<Integer> listOne = new ArrayList<>();
+        final List<Integer> listTwo = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            listOne.add(i);
+            listTwo.add(-i - 1);
+        }
+        
+        try {
+            CollectionAssert.assertList(listOne, listTwo, Function.identity(), Integer::compare);
+            fail("Expected AssertionError");
+        } catch (ListAssertionError e) {
+            final String br = System.getProperty("line.separator");
+            final String[] lines = e.getMessage().split(br);
+            Assert.assertEquals(1 + 2 * (ListAssertionError.DEFAULT_MAX_REPORTED + 1), lines.length);
+            Assert.assertEquals("List one: ... 9900 more (10000 remaining)", lines[ListAssertionError.DEFAULT_MAX_REPORTED + 1]);
+            Assert.assertEquals("List two: ... 9900 more (10000 remaining)", lines[lines.length - 1]);
+            Assert.assertEquals(10000, e.getRemainingOneCount());
+            Assert.assertEquals(10000, e.getRemainingTwoCount());
+            Assert.assertNull(e.getReportFile());
+        }
+    }
+    
+    @Test
+    public void testAssertListFullReportFile () throws Exception {
+        final Path reportDir = Files.createTempDirectory("collection-assert-report");
+        System.setProperty(ListAssertionError.REPORT_DIR_PROPERTY, reportDir.toString());
+        System.setProperty(ListAssertionError.MAX_REPORTED_PROPERTY, "1");
+        try {
+            CollectionAssert.assertList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Integer::compare);
+            fail("Expected AssertionError");
+        } catch (ListAssertionError e) {
+            final String br = System.getProperty("line.separator");
+            Assert.assertEquals(
+                    "Lists are not similar." +  br
+                    + "List one: Remaining: " + ReflectionToStringBuilder.toString(1) + br
+                    + "List one: ... 2 more (3 remaining)" + br
+                    + "List two: Remaining: " + ReflectionToStringBuilder.toString(4) + br
+                    + "List two: ... 2 more (3 remaining)" + br
+                    + "Full report: " + e.getReportFile() + br
+                    ,e.getMessage()
+                    );
+            final List<String> report = Files.readAllLines(e.getReportFile());
+            Assert.assertEquals(7, report.size());
+            Assert.assertEquals("List two: Remaining: " + ReflectionToStringBuilder.toString(6), report.get(6));
+            Files.delete(e.getReportFile());
+        } finally {
+            System.clearProperty(ListAssertionError.REPORT_DIR_PROPERTY);
+            System.clearProperty(ListAssertionError.MAX_REPORTED_PROPERTY);
+            Files.deleteIfExists(reportDir);
+        }
+    }
+    
     @Test
     public void testAssertListDoesNotMatch () {
         final Date date = new Date();
@@ -202,6 +512,77 @@ public class TestCollectionAssert extends CollectionAssert {
         CollectionAssert.assertListByReflection(listOne, listTwo);
     }
     
+    @Test
+    public void testAssertListByKeyMatches () {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        listOne.add(new TestObj("one", 1, date, 1L));
+        listOne.add(new TestObj("two", 2, date, 2L));
+        listOne.add(new TestObj("two", 3, date, 3L));
+        final List<TestObj> listTwo = new ArrayList<>();
+        listTwo.add(new TestObj("two", 3, date, 3L));
+        listTwo.add(new TestObj("two", 2, date, 2L));
+        listTwo.add(new TestObj("one", 1, date, 1L));
+
+        CollectionAssert.assertList(listOne, listTwo, TestObj::getField1, 
+                (a,b) -> a.getField1().equals(b.getField1()) && a.getField2() == b.getField2() ? 0 : 1);
+    }
+    
+    @Test
+    public void testAssertListByKeyDoesNotMatch () {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        listOne.add(new TestObj("one", 1, date, 1L));
+        listOne.add(new TestObj("two", 2, date, 2L));
+        final List<TestObj> listTwo = new ArrayList<>();
+        listTwo.add(new TestObj("two", 3, date, 2L));
+        listTwo.add(new TestObj("one", 1, date, 1L));
+        
+        try {
+            CollectionAssert.assertList(listOne, listTwo, TestObj::getField1, 
+                    (a,b) -> a.getField1().equals(b.getField1()) && a.getField2() == b.getField2() ? 0 : 1);
+            fail("Expected AssertionError");
+        } catch(AssertionError e) {
+            final String br = System.getProperty("line.separator");
+            Assert.assertEquals(
+                    "Lists are not similar." +  br
+                    + "List one: Remaining: " + ReflectionToStringBuilder.toString(listOne.get(1)) + br
+                    + "List two: Remaining: " + ReflectionToStringBuilder.toString(listTwo.get(0)) + br
+                    ,e.getMessage()
+                    );
+        }
+    }
+    
+    @Test
+    public void testAssertListByKeyUnhashableElements () {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        listOne.add(new TestObj(null, 1, date, 1L));
+        listOne.add(new TestObj("two", 2, date, 2L));
+        final List<TestObj> listTwo = new ArrayList<>();
+        listTwo.add(new TestObj("two", 2, date, 2L));
+        listTwo.add(new TestObj(null, 1, date, 1L));
+
+        CollectionAssert.assertList(listOne, listTwo, TestObj::getField1, (a,b) -> a.getField2() == b.getField2() ? 0 : 1);
+    }
+    
+    @Test
+    public void testAssertListByKeyMissingItems () {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        listOne.add(new TestObj("one", 1, date, 1L));
+        listOne.add(new TestObj("two", 2, date, 2L));
+        final List<TestObj> listTwo = new ArrayList<>();
+        listTwo.add(new TestObj("one", 1, date, 1L));
+        
+        try {
+            CollectionAssert.assertList(listOne, listTwo, TestObj::getField1, (a,b) -> a.getField2() == b.getField2() ? 0 : 1);
+            fail("Expected AssertionError");
+        } catch(AssertionError e) {
+            Assert.assertEquals("List two is missing items", e.getMessage());
+        }
+    }
+    
     class TestObj {
         private String field1;
         private int field2;
@@ -273,4 +654,84 @@ public class TestCollectionAssert extends CollectionAssert {
         
         
     }
+    
+    static class NestedObj {
+        private String name;
+        private int[] values;
+        private List<Object> children;
+        private Map<String, NestedObj> mapped;
+        
+        /**
+         * @param name
+         * @param values
+         * @param children
+         * @param mapped
+         */
+        @SuppressWarnings("unchecked")
+        public NestedObj(String name, int[] values, List<?> children, Map<String, NestedObj> mapped) {
+            this.name = name;
+            this.values = values;
+            this.children = (List<Object>) children;
+            this.mapped = mapped;
+        }
+        /**
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+        /**
+         * @return the values
+         */
+        public int[] getValues() {
+            return values;
+        }
+        /**
+         * @return the children
+         */
+        public List<Object> getChildren() {
+            return children;
+        }
+        /**
+         * @return the mapped
+         */
+        public Map<String, NestedObj> getMapped() {
+            return mapped;
+        }
+    }
+    
+    static class CounterObj {
+        private String name;
+        private AtomicLong counter;
+        private StringBuilder text;
+        
+        /**
+         * @param name
+         * @param counter
+         * @param text
+         */
+        public CounterObj(String name, AtomicLong counter, StringBuilder text) {
+            this.name = name;
+            this.counter = counter;
+            this.text = text;
+        }
+        /**
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+        /**
+         * @return the counter
+         */
+        public AtomicLong getCounter() {
+            return counter;
+        }
+        /**
+         * @return the text
+         */
+        public StringBuilder getText() {
+            return text;
+        }
+    }
 }
@@ -1,11 +1,25 @@
 package test.com.github.spartatech.testutils.logback;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
 import org.junit.ComparisonFailure;
 import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.spartatech.testutils.logback.UnitTestAsserterLogback;
+import com.github.spartatech.testutils.logback.ValueMatcher;
+import com.github.spartatech.testutils.logback.constant.CaptureMode;
 import com.github.spartatech.testutils.logback.constant.ExpectValue;
 
 import ch.qos.logback.classic.Level;
@@ -251,6 +265,357 @@ public class TestUnitTestAsserterLogback {
         spyAppender.assertLogExpectations(false);
     }
 
+    @Test
+    public void testCaptureModeLastN() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.LAST_N, 2);
+        spyAppender.addExpectation(Level.INFO, "message 3");
+        spyAppender.addExpectation(Level.INFO, "message 4");
+        
+        for (int i = 1; i <= 4; i++) {
+            LOGGER.info("message " + i);
+        }
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testCaptureModeExpectedOnly() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.EXPECTED_ONLY);
+        spyAppender.addExpectation(Level.INFO, "teste message");
+        
+        LOGGER.info("other message");
+        LOGGER.info("teste message");
+        LOGGER.info("another message");
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testCaptureStreaming() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.STREAMING, 2);
+        spyAppender.addExpectation(Level.INFO, "teste message {}", 1);
+        spyAppender.addExpectation(Level.WARN, "other message {}", ExpectValue.ANY);
+        spyAppender.addExpectation(Level.INFO, "teste message {}", 3);
+        
+        LOGGER.info("teste message {}", 1);
+        LOGGER.warn("other message {}", 2);
+        LOGGER.info("teste message {}", 3);
+        
+        spyAppender.assertLogExpectations(false);
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test
+    public void testCaptureStreamingMismatchAtLogCall() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.STREAMING);
+        spyAppender.addExpectation(Level.INFO, "teste message");
+        spyAppender.addExpectation(Level.INFO, "other message");
+        
+        LOGGER.info("teste message");
+        LOGGER.error("other message");
+        LOGGER.info("another message");
+        
+        try {
+            spyAppender.assertLogExpectations(false);
+            Assert.fail("Level mismatch not reported");
+        } catch (ComparisonFailure e) {
+            Assert.assertEquals("INFO", e.getExpected());
+            Assert.assertEquals("ERROR", e.getActual());
+            boolean fromLogCall = false;
+            for (StackTraceElement element : e.getStackTrace()) {
+                fromLogCall |= "testCaptureStreamingMismatchAtLogCall".equals(element.getMethodName());
+            }
+            Assert.assertTrue(fromLogCall);
+        }
+    }
+    
+    @Test
+    public void testCaptureStreamingIgnoreExtra() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.STREAMING, 1);
+        spyAppender.addExpectation(Level.INFO, "teste message {}", 7);
+        spyAppender.addExpectation(Level.WARN, "other message");
+        
+        LOGGER.warn("other message");
+        for (int i = 0; i < 10000; i++) {
+            LOGGER.info("teste message {}", i);
+        }
+        
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test(expected=AssertionFailedError.class)
+    public void testCaptureStreamingIgnoreExtraNotFound() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.STREAMING);
+        spyAppender.addExpectation(Level.INFO, "teste message {}", 7);
+        
+        LOGGER.info("teste message {}", 6);
+        LOGGER.warn("teste message {}", 7);
+        
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test
+    public void testFormattedArguments() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withFormattedArguments();
+        spyAppender.addExpectation(Level.INFO, "teste message {} {}", new ArrayList<>(Arrays.asList("a")), null);
+        
+        final List<String> logged = new ArrayList<>(Arrays.asList("a"));
+        LOGGER.info("teste message {} {}", logged, null);
+        logged.add("b");
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test(expected=ComparisonFailure.class)
+    public void testFormattedArgumentsMismatch() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass())
+                                                        .withCaptureMode(CaptureMode.LAST_N, 10)
+                                                        .withFormattedArguments();
+        spyAppender.addExpectation(Level.INFO, "teste message {}", 1);
+        
+        LOGGER.info("teste message {}", 2);
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testParamMatchers() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "order {} by {} total {}", ValueMatcher.regex("ORD-\\d+"), 
+                                   ValueMatcher.prefix("user-"), ValueMatcher.matching(v -> ((Integer) v) > 100));
+        
+        LOGGER.info("order {} by {} total {}", "ORD-123", "user-john", 150);
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testParamMatcherMismatch() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "order {}", ValueMatcher.regex("ORD-\\d+"));
+        
+        LOGGER.info("order {}", "ORD-12a");
+        
+        try {
+            spyAppender.assertLogExpectations(false);
+            Assert.fail("Param mismatch not reported");
+        } catch (ComparisonFailure e) {
+            Assert.assertEquals("regex[ORD-\\d+]", e.getExpected());
+            Assert.assertEquals("ORD-12a", e.getActual());
+        }
+    }
+    
+    @Test
+    public void testMessageMatchers() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addMatchingExpectation(Level.INFO, ValueMatcher.prefix("Started "), ExpectValue.ANY);
+        spyAppender.addFormattedExpectation(Level.WARN, "Retrying order 7 in 10s");
+        spyAppender.addFormattedExpectation(Level.INFO, ValueMatcher.regex("Finished \\d+ orders"));
+        
+        LOGGER.info("Started {}", "batch");
+        LOGGER.warn("Retrying order {} in {}s", 7, 10);
+        LOGGER.info("Finished {} orders", 42);
+        
+        spyAppender.assertLogExpectations(false);
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test(expected=AssertionFailedError.class)
+    public void testFormattedMessageNotFoundIgnoreExtra() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addFormattedExpectation(Level.WARN, "Retrying order 7 in 10s");
+        
+        LOGGER.warn("Retrying order {} in {}s", 8, 10);
+        LOGGER.info("Retrying order {} in {}s", 7, 10);
+        
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test
+    public void testMessageMatchersStreamingAndExpectedOnly() {
+        final UnitTestAsserterLogback streaming = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.STREAMING);
+        final UnitTestAsserterLogback expectedOnly = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.EXPECTED_ONLY);
+        streaming.addFormattedExpectation(Level.INFO, ValueMatcher.regex("Finished \\d+ orders"));
+        expectedOnly.addFormattedExpectation(Level.INFO, ValueMatcher.regex("Finished \\d+ orders"));
+        
+        LOGGER.info("Started {}", "batch");
+        LOGGER.info("Finished {} orders", 42);
+        
+        streaming.assertLogExpectations(true);
+        expectedOnly.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testValueMatchers() {
+        Assert.assertTrue(ValueMatcher.regex("abc\\d*").matches("abc"));
+        Assert.assertTrue(ValueMatcher.regex("ab?c").matches("ac"));
+        Assert.assertTrue(ValueMatcher.regex("x|abc").matches("x"));
+        Assert.assertFalse(ValueMatcher.regex("abc").matches("abcd"));
+        Assert.assertFalse(ValueMatcher.regex("abc").matches(null));
+        Assert.assertTrue(ValueMatcher.equalTo("10").matches(10));
+        Assert.assertFalse(ValueMatcher.equalTo("10").matches(100));
+        Assert.assertTrue(ValueMatcher.matching(v -> v == null).matches(null));
+        // quantifier after a char outside the BMP, written as a surrogate pair
+        Assert.assertTrue(ValueMatcher.regex("a\uD83D\uDE00?").matches("a"));
+        Assert.assertTrue(ValueMatcher.regex("a\uD83D\uDE00+").matches("a\uD83D\uDE00\uD83D\uDE00"));
+    }
+
+    @Test
+    public void testExpectationWithNullMessage() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, null);
+
+        LOGGER.info(null);
+
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testLogFromManyThreads() throws Exception {
+        final int threads = 32;
+        final int messages = 500;
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        for (int i = 0; i < threads * messages; i++) {
+            spyAppender.addExpectation(Level.INFO, "thread message {}", ExpectValue.ANY);
+        }
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < messages; i++) {
+                    LOGGER.info("thread message {}", i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        
+        spyAppender.assertLogExpectations(false);
+    }
+
+    @Test
+    public void testStreamingFromManyThreads() throws Exception {
+        final int threads = 16;
+        final int messages = 500;
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withCaptureMode(CaptureMode.STREAMING);
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < messages; i++) {
+                spyAppender.addExpectation(Level.INFO, "thread {} message {}", t, i);
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < messages; i++) {
+                    LOGGER.info("thread {} message {}", thread, i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        spyAppender.assertLogExpectations(true);
+    }
+
+    @Test
+    public void testLogByPackageWithChildLoggers() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback("log-mock.package").withChildLoggers();
+        spyAppender.addExpectation(Level.INFO, "parent message");
+        spyAppender.addExpectation(Level.INFO, "child message");
+        
+        LoggerFactory.getLogger("log-mock.package").info("parent message");
+        LoggerFactory.getLogger("log-mock.package.Child").info("child message");
+        LoggerFactory.getLogger("log-mock.packageOther").info("other message");
+        LoggerFactory.getLogger("log-mock").info("other message");
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testLogByRootWithChildLoggers() {
+        try (UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(Logger.ROOT_LOGGER_NAME).withChildLoggers()) {
+            spyAppender.addExpectation(Level.INFO, "root child message");
+            
+            LoggerFactory.getLogger("log-mock.root.Child").info("root child message");
+            
+            spyAppender.assertLogExpectations(true);
+        }
+    }
+    
+    @Test
+    public void testLogByNameIgnoresChildLoggers() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback("log-mock.exact");
+        spyAppender.addExpectation(Level.INFO, "parent message");
+        
+        LoggerFactory.getLogger("log-mock.exact").info("parent message");
+        LoggerFactory.getLogger("log-mock.exact.Child").info("child message");
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test(expected=ComparisonFailure.class)
+    public void testClosedAsserterDoesNotKeepEvents() {
+        final UnitTestAsserterLogback spyAppender;
+        try (UnitTestAsserterLogback asserter = new UnitTestAsserterLogback(this.getClass())) {
+            spyAppender = asserter;
+            spyAppender.addExpectation(Level.INFO, "teste message");
+        }
+        
+        LOGGER.info("teste message");
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testAsserterSharingLogger() {
+        final UnitTestAsserterLogback first = new UnitTestAsserterLogback(this.getClass());
+        try (UnitTestAsserterLogback second = new UnitTestAsserterLogback(this.getClass())) {
+            first.addExpectation(Level.INFO, "teste message");
+            second.addExpectation(Level.INFO, "teste message");
+            
+            LOGGER.info("teste message");
+            
+            second.assertLogExpectations(false);
+        }
+        
+        LOGGER.info("teste message");
+        first.addExpectation(Level.INFO, "teste message");
+        first.assertLogExpectations(false);
+        first.close();
+    }
+    
+    @Test
+    public void testAsserterAsRule() throws Throwable {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                spyAppender.addExpectation(Level.INFO, "teste message");
+                LOGGER.info("teste message");
+                spyAppender.assertLogExpectations(false);
+            }
+        }, Description.EMPTY).evaluate();
+        
+        LOGGER.info("teste message");
+        spyAppender.addExpectation(Level.INFO, "teste message");
+        try {
+            spyAppender.assertLogExpectations(false);
+            throw new AssertionError("Events kept after the rule finished");
+        } catch (ComparisonFailure e) {
+            // closed by the rule
+        }
+    }
+    
     /* ********* Test method with ignore == true    ************** */ 
     
     @Test(expected=AssertionFailedError.class)
@@ -326,4 +691,195 @@ public class TestUnitTestAsserterLogback {
         spyAppender.assertLogExpectations(true);
     }
     
+    @Test
+    public void testLogByClassNearMissesIgnoreExtra() {
+        final String message = "new message {}, {}";
+        
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, message, 1, "match");
+        spyAppender.addExpectation(Level.WARN, message, 2, ExpectValue.ANY);
+        
+        for (int i = 0; i < 10000; i++) {
+            LOGGER.info(message, i, "other");
+        }
+        LOGGER.warn(message, 2, "any");
+        LOGGER.info(message, 1, "match");
+        
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test(expected=AssertionFailedError.class)
+    public void testLogByClassParamsNotFoundIgnoreExtra() {
+        final String message = "new message {}, {}";
+        
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, message, 1, "match");
+        
+        LOGGER.info(message, 1, "other");
+        LOGGER.warn(message, 1, "match");
+        
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test
+    public void testAssertRepeated() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "teste message");
+        
+        LOGGER.info("teste message");
+        
+        spyAppender.assertLogExpectations(false);
+        spyAppender.assertLogExpectations(false);
+        spyAppender.assertLogExpectations(true);
+    }
+    
+    @Test
+    public void testAssertSoFar() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "message 1");
+        spyAppender.addExpectation(Level.INFO, "message 2");
+        spyAppender.addExpectation(Level.WARN, "message 3");
+        
+        spyAppender.assertLogExpectationsSoFar();
+        LOGGER.info("message 1");
+        spyAppender.assertLogExpectationsSoFar();
+        LOGGER.info("message 2");
+        LOGGER.warn("message 3");
+        spyAppender.assertLogExpectationsSoFar();
+        
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test(expected=ComparisonFailure.class)
+    public void testAssertSoFarMismatch() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "message 1");
+        spyAppender.addExpectation(Level.INFO, "message 2");
+        
+        LOGGER.info("message 1");
+        spyAppender.assertLogExpectationsSoFar();
+        LOGGER.info("other message");
+        spyAppender.assertLogExpectationsSoFar();
+    }
+    
+    @Test(expected=ComparisonFailure.class)
+    public void testAssertSoFarExtraMessages() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "message 1");
+        
+        LOGGER.info("message 1");
+        spyAppender.assertLogExpectationsSoFar();
+        LOGGER.info("message 1");
+        spyAppender.assertLogExpectationsSoFar();
+    }
+    
+    @Test
+    public void testAssertSoFarEventStoredLate() throws Exception {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass()).withFormattedArguments();
+        spyAppender.addExpectation(Level.INFO, "message {}", "1");
+        spyAppender.addExpectation(Level.INFO, "message 2");
+        
+        // the param is formatted after the event got its sequence and before it is stored
+        final CountDownLatch formatting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Object slowParam = new Object() {
+            @Override
+            public String toString() {
+                formatting.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "1";
+            }
+        };
+        final Thread logger = new Thread(() -> LOGGER.info("message {}", slowParam));
+        logger.start();
+        try {
+            formatting.await();
+            LOGGER.info("message 2");
+            
+            spyAppender.assertLogExpectationsSoFar();
+        } finally {
+            release.countDown();
+            logger.join();
+        }
+        spyAppender.assertLogExpectationsSoFar();
+        spyAppender.assertLogExpectations(false);
+    }
+    
+    @Test
+    public void testAwaitExpectations() throws Exception {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "message 1");
+        spyAppender.addExpectation(Level.INFO, "message 2");
+        
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            Thread.sleep(50);
+            LOGGER.info("message 1");
+            Thread.sleep(50);
+            LOGGER.info("message 2");
+            return null;
+        });
+        executor.shutdown();
+        
+        final long start = System.nanoTime();
+        spyAppender.awaitExpectations(Duration.ofSeconds(30));
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+    }
+    
+    @Test
+    public void testAwaitExpectationsIgnoreExtra() throws Exception {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.WARN, "message 2");
+        
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            LOGGER.info("message 1");
+            Thread.sleep(50);
+            LOGGER.warn("message 2");
+            return null;
+        });
+        executor.shutdown();
+        
+        spyAppender.awaitExpectations(Duration.ofSeconds(30), true);
+    }
+    
+    @Test
+    public void testAwaitExpectationsIgnoreExtraManyEvents() throws Exception {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        for (int i = 0; i < 4; i++) {
+            spyAppender.addExpectation(Level.WARN, "done {}", i);
+        }
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            final int thread = i;
+            executor.submit(() -> {
+                for (int j = 0; j < 5000; j++) {
+                    LOGGER.info("noise {}", j);
+                }
+                LOGGER.warn("done {}", thread);
+            });
+        }
+        executor.shutdown();
+        
+        spyAppender.awaitExpectations(Duration.ofSeconds(30), true);
+        
+        // expectations added later are matched against the events already received
+        spyAppender.addExpectation(Level.INFO, "noise {}", 10);
+        spyAppender.awaitExpectations(Duration.ofSeconds(30), true);
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+    
+    @Test(expected=ComparisonFailure.class)
+    public void testAwaitExpectationsTimeout() {
+        final UnitTestAsserterLogback spyAppender = new UnitTestAsserterLogback(this.getClass());
+        spyAppender.addExpectation(Level.INFO, "message 1");
+        
+        spyAppender.awaitExpectations(Duration.ofMillis(50));
+    }
+    
 }
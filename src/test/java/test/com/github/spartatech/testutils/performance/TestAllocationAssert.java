@@ -0,0 +1,73 @@
+package test.com.github.spartatech.testutils.performance;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.spartatech.testutils.performance.AllocationAssert;
+
+/**
+ * Unit Tests for Allocation Assert
+ * 
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ */
+public class TestAllocationAssert {
+
+    private long counter;
+    private Object sink;
+
+    @Test
+    public void testAllocationFree() throws Exception {
+        AllocationAssert.assertAllocationFree(() -> counter++);
+    }
+
+    @Test
+    public void testAllocatesWithinBudget() throws Exception {
+        AllocationAssert.assertAllocatesAtMost(2_048, () -> sink = new byte[1_024]);
+    }
+
+    @Test
+    public void testAllocatesWithinHugeBudget() throws Exception {
+        AllocationAssert.assertAllocatesAtMost(Long.MAX_VALUE / 10, 100, 100, () -> sink = new byte[1_024]);
+    }
+
+    @Test
+    public void testAllocatesOverBudget() throws Exception {
+        try {
+            AllocationAssert.assertAllocatesAtMost(64, 100, 100, () -> sink = new byte[1_024]);
+            Assert.fail("Allocation should be over budget");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Allocated "));
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("bytes per invocation, expected at most 64"));
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("in 100 invocations"));
+        }
+    }
+
+    @Test
+    public void testMeasureAllocatedBytes() throws Exception {
+        final long total = AllocationAssert.measureAllocatedBytes(() -> sink = new byte[1_024], 100, 100);
+
+        Assert.assertTrue(String.valueOf(total), total >= 100 * 1_024);
+    }
+
+    @Test(expected = IOException.class)
+    public void testExceptionPropagated() throws Exception {
+        AllocationAssert.assertAllocationFree(() -> {
+            throw new IOException("fail");
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeBytes() throws Exception {
+        AllocationAssert.assertAllocatesAtMost(-1, 10, 10, () -> counter++);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidIterations() throws Exception {
+        AllocationAssert.assertAllocatesAtMost(0, 10, 0, () -> counter++);
+    }
+}
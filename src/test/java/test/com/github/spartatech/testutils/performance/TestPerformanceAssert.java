@@ -0,0 +1,76 @@
+package test.com.github.spartatech.testutils.performance;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.spartatech.testutils.performance.LatencyHistogram;
+import com.github.spartatech.testutils.performance.Percentile;
+import com.github.spartatech.testutils.performance.PerformanceAssert;
+
+/**
+ * Unit Tests for Performance Assert
+ * 
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ */
+public class TestPerformanceAssert {
+
+    @Test
+    public void testHistogramExactSmallValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(1, histogram.getMin());
+        Assert.assertEquals(50, histogram.getValue(Percentile.P50));
+        Assert.assertEquals(99, histogram.getValue(Percentile.P99));
+        Assert.assertEquals(100, histogram.getValue(Percentile.MAX));
+    }
+    
+    @Test
+    public void testHistogramRelativeError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1_000; value <= 1_000_000_000L; value = value * 3 / 2) {
+            final LatencyHistogram single = new LatencyHistogram();
+            single.record(value);
+            final long reported = single.getValueAtPercentile(50);
+            Assert.assertTrue(value + " reported as " + reported, reported >= value && reported <= value * 1.01);
+            histogram.add(single);
+        }
+        histogram.record(Long.MAX_VALUE);
+        
+        Assert.assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(99.99));
+        Assert.assertEquals(1_000, histogram.getMin());
+    }
+    
+    @Test
+    public void testAssertLatencyWithinBudget() throws Exception {
+        final StringBuilder builder = new StringBuilder();
+        final LatencyHistogram histogram = PerformanceAssert.assertLatency(() -> builder.setLength(0), Percentile.P50, Duration.ofSeconds(1));
+        
+        Assert.assertEquals(PerformanceAssert.DEFAULT_ITERATIONS, histogram.getCount());
+        PerformanceAssert.assertLatency(histogram, Percentile.MAX, Duration.ofSeconds(5));
+    }
+    
+    @Test
+    public void testAssertLatencyOverBudget() throws Exception {
+        try {
+            PerformanceAssert.assertLatency(() -> Thread.sleep(2), 0, 5, Percentile.P99, Duration.ofMillis(1));
+            Assert.fail("Latency over budget not reported");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("P99 latency over budget, expected at most 1.000ms but was "));
+        }
+    }
+    
+    @Test(expected=IOException.class)
+    public void testAssertLatencyException() throws Exception {
+        PerformanceAssert.assertLatency(() -> {throw new IOException("failed");}, Percentile.P50, Duration.ofSeconds(1));
+    }
+}
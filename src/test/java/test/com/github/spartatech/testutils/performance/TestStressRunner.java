@@ -0,0 +1,111 @@
+package test.com.github.spartatech.testutils.performance;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.spartatech.testutils.performance.LatencyHistogram;
+import com.github.spartatech.testutils.performance.PerformanceAssert;
+import com.github.spartatech.testutils.performance.StressResult;
+import com.github.spartatech.testutils.performance.StressRunner;
+
+/**
+ * Unit Tests for Stress Runner
+ * 
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 16, 2026 - Sparta Team
+ */
+public class TestStressRunner {
+
+    @Test
+    public void testPlatformThreads() throws Exception {
+        final AtomicLong counter = new AtomicLong();
+        final StressResult result = StressRunner.platformThreads(4).warmup(10).iterations(500).run(counter::incrementAndGet);
+
+        Assert.assertEquals(4 * 510, counter.get());
+        Assert.assertEquals(4, result.getThreads());
+        Assert.assertEquals(4 * 500, result.getOperations());
+        Assert.assertEquals(4, result.getThreadLatencies().size());
+        for (LatencyHistogram latencies : result.getThreadLatencies()) {
+            Assert.assertEquals(500, latencies.getCount());
+        }
+        Assert.assertTrue(result.getOpsPerSecond() > 0);
+        PerformanceAssert.assertNoFailures(result);
+        PerformanceAssert.assertThroughput(result, 1);
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        final ConcurrentHashMap<Long, Boolean> threads = new ConcurrentHashMap<>();
+        final StressResult result = StressRunner.virtualThreads(16).warmup(0).iterations(100)
+                .run(() -> threads.put(Thread.currentThread().getId(), Boolean.TRUE));
+
+        Assert.assertEquals(16 * 100, result.getOperations());
+        Assert.assertEquals(16, threads.size());
+        PerformanceAssert.assertNoFailures(result);
+    }
+
+    @Test
+    public void testExpectedFailures() throws Exception {
+        final AtomicLong counter = new AtomicLong();
+        final StressResult result = StressRunner.platformThreads(2).warmup(0).iterations(100).run(() -> {
+            if (counter.incrementAndGet() % 10 == 0) {
+                throw new IllegalStateException("contended");
+            }
+        });
+
+        Assert.assertEquals(20, result.getFailureCount());
+        Assert.assertEquals(1, result.getFailures().size());
+        PerformanceAssert.assertFailures(new IllegalStateException("contended"), result);
+    }
+
+    @Test
+    public void testUnexpectedFailureMessage() throws Exception {
+        final StressResult result = StressRunner.platformThreads(2).warmup(0).iterations(10).run(() -> {
+            throw new IllegalStateException("other");
+        });
+
+        try {
+            PerformanceAssert.assertFailures(new IllegalStateException("contended"), result);
+            Assert.fail("Failure message should not match");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("other"));
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testNoFailuresFails() throws Exception {
+        PerformanceAssert.assertNoFailures(StressRunner.platformThreads(1).warmup(0).iterations(1).run(() -> {
+            throw new IllegalStateException("fail");
+        }));
+    }
+
+    @Test
+    public void testErrorsReported() throws Exception {
+        final StressResult result = StressRunner.platformThreads(2).warmup(0).iterations(5).run(() -> {
+            throw new NoClassDefFoundError("missing");
+        });
+
+        Assert.assertEquals(10, result.getFailureCount());
+        PerformanceAssert.assertFailures(new NoClassDefFoundError("missing"), result);
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testExpectedFailuresMissing() throws Exception {
+        PerformanceAssert.assertFailures(new IllegalStateException("fail"), StressRunner.platformThreads(1).warmup(0).iterations(1).run(() -> { }));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testThroughputUnderBudget() throws Exception {
+        PerformanceAssert.assertThroughput(StressRunner.platformThreads(1).warmup(0).iterations(1).run(() -> Thread.sleep(10)), 1_000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreads() {
+        StressRunner.platformThreads(0);
+    }
+}
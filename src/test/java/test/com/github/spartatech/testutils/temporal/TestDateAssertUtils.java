@@ -1,8 +1,18 @@
 package test.com.github.spartatech.testutils.temporal;
 
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 
 import org.junit.Assert;
 import org.junit.ComparisonFailure;
@@ -10,8 +20,10 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.spartatech.testutils.colletion.ListAssertionError;
 import com.github.spartatech.testutils.exception.FieldNotFoundException;
 import com.github.spartatech.testutils.temporal.DateAssertUtils;
+import com.github.spartatech.testutils.temporal.DatesAssertionError;
 
 /** 
  * 
@@ -195,6 +207,239 @@ public class TestDateAssertUtils extends DateAssertUtils {
         }
     }
     
+    @Test
+    public void testAssertDateByFormatPatternsLikeSimpleDateFormat() throws Exception {
+        final Calendar cal = Calendar.getInstance();
+        cal.set(2026, Calendar.OCTOBER, 16, 9, 5, 7);
+        cal.set(Calendar.MILLISECOND, 42);
+        final Date expected = cal.getTime();
+        cal.add(Calendar.YEAR, -100);
+        final Date actual = cal.getTime();
+        
+        DateAssertUtils.assertDateByFormat(expected, actual, "MM/dd HH:mm:ss.SSS");
+        DateAssertUtils.assertDateByFormat(expected, actual, "'Day' d 'of' MMMM");
+        for (String format : new String[] {"yyyy-MM-dd'T'HH:mm", "yy D", "h:mm a", "EEE, d MMM yyyy", "[yyyy]"}) {
+            final SimpleDateFormat sdf = new SimpleDateFormat(format);
+            try {
+                DateAssertUtils.assertDateByFormat(expected, actual, format);
+                if (!sdf.format(expected).equals(sdf.format(actual))) {
+                    Assert.fail("Mismatch not reported for " + format);
+                }
+            } catch (ComparisonFailure e) {
+                Assert.assertEquals(sdf.format(expected), e.getExpected());
+                Assert.assertEquals(sdf.format(actual), e.getActual());
+            }
+        }
+    }
+    
+    @Test
+    public void testAssertDateByFormatLocalesAndYearsLikeSimpleDateFormat() throws Exception {
+        final Locale defaultLocale = Locale.getDefault();
+        final Calendar cal = Calendar.getInstance();
+        cal.set(2026, Calendar.OCTOBER, 16, 9, 5, 7);
+        final Date expected = cal.getTime();
+        cal.add(Calendar.YEAR, -1);
+        final Date actual = cal.getTime();
+        try {
+            for (Locale locale : new Locale[] {new Locale("th", "TH"), new Locale("ja", "JP", "JP"), Locale.forLanguageTag("en-US-u-nu-thai")}) {
+                Locale.setDefault(locale);
+                assertFormattedLikeSimpleDateFormat(expected, actual, "yyyy-MM-dd");
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        cal.set(10000, Calendar.JANUARY, 1);
+        assertFormattedLikeSimpleDateFormat(cal.getTime(), expected, "yyyy-MM-dd");
+    }
+    
+    private static void assertFormattedLikeSimpleDateFormat(Date expected, Date actual, String format) {
+        final SimpleDateFormat sdf = new SimpleDateFormat(format);
+        try {
+            DateAssertUtils.assertDateByFormat(expected, actual, format);
+            Assert.fail("Mismatch not reported for " + Locale.getDefault());
+        } catch (ComparisonFailure e) {
+            Assert.assertEquals(sdf.format(expected), e.getExpected());
+            Assert.assertEquals(sdf.format(actual), e.getActual());
+        }
+    }
+    
+    @Test
+    public void testAssertDatesMatching() {
+        final long[] expected = new long[100_000];
+        final long[] actual = new long[expected.length];
+        final long start = Instant.parse("2026-10-16T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = start + i * 60_000L;
+            actual[i] = expected[i] + 30_000L;
+        }
+        
+        DateAssertUtils.assertDates(expected, actual, ZoneOffset.UTC, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY, ChronoField.MINUTE_OF_HOUR);
+    }
+    
+    @Test
+    public void testAssertDatesReportsAllMismatches() {
+        final long[] expected = new long[1000];
+        final long[] actual = new long[expected.length];
+        final long start = Instant.parse("2026-10-16T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = start + i * 60_000L;
+            actual[i] = i % 200 == 7 ? expected[i] + 3_600_000L : expected[i];
+        }
+        
+        try {
+            DateAssertUtils.assertDates(expected, actual, ZoneOffset.UTC, ChronoField.HOUR_OF_DAY);
+            Assert.fail("Mismatches not reported");
+        } catch (DatesAssertionError e) {
+            Assert.assertArrayEquals(new int[] {7, 207, 407, 607, 807}, e.getMismatchIndices());
+            Assert.assertEquals(1000, e.getTotal());
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Dates mismatch at 5 of 1000 indices"));
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("[207] Field HOUR_OF_DAY expected:<3> but was:<4>"));
+        }
+    }
+    
+    @Test
+    public void testAssertDatesMaxReported() {
+        final long[] expected = new long[10];
+        final long[] actual = new long[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            actual[i] = expected[i] + 1;
+        }
+        System.setProperty(ListAssertionError.MAX_REPORTED_PROPERTY, "2");
+        try {
+            DateAssertUtils.assertDates(expected, actual, ZoneOffset.UTC);
+            Assert.fail("Mismatches not reported");
+        } catch (DatesAssertionError e) {
+            final String[] lines = e.getMessage().split(System.getProperty("line.separator"));
+            Assert.assertEquals(4, lines.length);
+            Assert.assertTrue(lines[2], lines[2].startsWith("[1] "));
+            Assert.assertEquals("... 8 more", lines[3]);
+        } finally {
+            System.clearProperty(ListAssertionError.MAX_REPORTED_PROPERTY);
+        }
+    }
+    
+    @Test(expected=ComparisonFailure.class)
+    public void testAssertDatesDifferentSizes() {
+        DateAssertUtils.assertDates(MESSAGE, new long[2], new long[3], ZoneOffset.UTC);
+    }
+    
+    @Test
+    public void testAssertDatesAndTemporalsLists() {
+        final ZoneId zone = ZoneId.of("America/Sao_Paulo");
+        final Instant instant = Instant.parse("2026-10-16T23:30:00Z");
+        
+        DateAssertUtils.assertDates(Arrays.asList(Date.from(instant)), Arrays.asList(Date.from(instant.plusSeconds(3600))), 
+                zone, ChronoField.DAY_OF_MONTH);
+        DateAssertUtils.assertDates(Arrays.asList(Date.from(instant)), new long[] {instant.plusSeconds(3600).toEpochMilli()}, 
+                zone, ChronoField.DAY_OF_MONTH);
+        DateAssertUtils.assertTemporals(Arrays.asList(instant), Arrays.asList(instant.atZone(ZoneOffset.UTC)), zone);
+        try {
+            DateAssertUtils.assertTemporals(Arrays.asList(instant, instant), Arrays.asList(instant, instant.plusSeconds(1)), zone);
+            Assert.fail("Mismatch not reported");
+        } catch (DatesAssertionError e) {
+            Assert.assertArrayEquals(new int[] {1}, e.getMismatchIndices());
+        }
+    }
+    
+    @Test
+    public void testAssertDateFieldNameOfSharedId() throws Exception {
+        final Calendar cal = Calendar.getInstance();
+        cal.set(Calendar.DAY_OF_MONTH, 10);
+        final Date expected = cal.getTime();
+        cal.set(Calendar.DAY_OF_MONTH, 11);
+        final Date actual = cal.getTime();
+
+        try {
+            DateAssertUtils.assertDate(expected, actual, Calendar.DAY_OF_MONTH);
+            Assert.fail("Day mismatch not reported");
+        } catch (ComparisonFailure e) {
+            // DATE and DAY_OF_MONTH share the Id, the first declared is reported
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Field DATE mismatch"));
+        }
+    }
+    
+    @Test
+    public void testAssertTemporalFieldsMatching() {
+        final LocalDateTime expected = LocalDateTime.of(2024, 2, 29, 10, 30);
+        final LocalDateTime actual = LocalDateTime.of(2024, 2, 29, 18, 5);
+        
+        DateAssertUtils.assertTemporal(expected, actual, ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH);
+    }
+    
+    @Test
+    public void testAssertTemporalFieldsNoMatching() {
+        final ZonedDateTime expected = ZonedDateTime.of(2024, 2, 29, 10, 30, 0, 0, ZoneId.of("America/Sao_Paulo"));
+        final OffsetDateTime actual = OffsetDateTime.of(2024, 2, 29, 11, 30, 0, 0, ZoneOffset.UTC);
+        
+        try {
+            DateAssertUtils.assertTemporal(expected, actual, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY);
+            Assert.fail("Hour mismatch not reported");
+        } catch (ComparisonFailure e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Field HOUR_OF_DAY mismatch"));
+            Assert.assertEquals("10", e.getExpected());
+            Assert.assertEquals("11", e.getActual());
+        }
+    }
+    
+    @Test
+    public void testAssertTemporalInZone() {
+        final ZoneId zone = ZoneId.of("Asia/Kolkata");
+        final Instant expected = Instant.parse("1900-03-01T20:00:00Z");
+        final ZonedDateTime actual = ZonedDateTime.of(1900, 3, 2, 5, 0, 0, 0, zone);
+        
+        DateAssertUtils.assertTemporal(expected, actual, zone, ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, 
+                ChronoField.DAY_OF_MONTH, ChronoField.DAY_OF_WEEK, ChronoField.DAY_OF_YEAR);
+    }
+    
+    @Test(expected=ComparisonFailure.class)
+    public void testAssertTemporalInstantsInUtc() {
+        DateAssertUtils.assertTemporal(MESSAGE, Instant.parse("2026-10-16T23:30:00Z"), Instant.parse("2026-10-17T00:30:00Z"), ChronoField.DAY_OF_MONTH);
+    }
+    
+    @Test
+    public void testAssertTemporalInstantAndZoned() {
+        final ZonedDateTime zoned = ZonedDateTime.of(2026, 10, 16, 22, 30, 0, 0, ZoneId.of("America/Sao_Paulo"));
+        DateAssertUtils.assertTemporal(zoned.toInstant(), zoned, ChronoField.YEAR, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY);
+        DateAssertUtils.assertTemporal(zoned.toOffsetDateTime(), zoned.toInstant(), ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY);
+        try {
+            DateAssertUtils.assertTemporal(zoned.toInstant().plusSeconds(3600), zoned, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY);
+            Assert.fail("Hour should mismatch");
+        } catch (ComparisonFailure e) {
+            Assert.assertEquals("23", e.getExpected());
+            Assert.assertEquals("22", e.getActual());
+        }
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testAssertTemporalInstantAndLocal() {
+        DateAssertUtils.assertTemporal(Instant.now(), LocalDateTime.now(), ChronoField.YEAR);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testAssertTemporalUnsupportedField() {
+        DateAssertUtils.assertTemporal(LocalDate.now(), LocalDate.now(), ChronoField.HOUR_OF_DAY);
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testAssertTemporalLocalInZone() {
+        DateAssertUtils.assertTemporal(LocalDateTime.now(), LocalDateTime.now(), ZoneOffset.UTC, ChronoField.YEAR);
+    }
+    
+    @Test
+    public void testAssertDateInZone() {
+        final Date expected = Date.from(Instant.parse("2026-10-16T23:30:00Z"));
+        final Date actual = Date.from(Instant.parse("2026-10-17T01:30:00Z"));
+        
+        DateAssertUtils.assertDate(expected, actual, ZoneId.of("America/Sao_Paulo"), ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH);
+        try {
+            DateAssertUtils.assertDate(expected, actual, ZoneOffset.UTC, ChronoField.DAY_OF_MONTH);
+            Assert.fail("Day mismatch not reported");
+        } catch (ComparisonFailure e) {
+            Assert.assertEquals("16", e.getExpected());
+            Assert.assertEquals("17", e.getActual());
+        }
+    }
+    
     @Test(expected=FieldNotFoundException.class)
     public void testAssertDateInvalidField() throws FieldNotFoundException {
         final Calendar cal = Calendar.getInstance();